@@ -0,0 +1,83 @@
+package com.example.volunteer_platform.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import com.example.volunteer_platform.dto.CacheRegionStatsDto;
+import com.example.volunteer_platform.dto.OutboxStatsDto;
+import com.example.volunteer_platform.service.CacheStatisticsService;
+import com.example.volunteer_platform.service.OutboxRelay;
+
+import java.util.List;
+
+/**
+ * AdminController exposes operational endpoints for the platform.
+ */
+@RestController
+@RequestMapping("/api/admin")
+public class AdminController {
+
+    @Autowired
+    private CacheStatisticsService cacheStatisticsService;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    /**
+     * Get hit and miss counters for every second-level cache region.
+     *
+     * @return List of region statistics.
+     */
+    @GetMapping("/cache-stats")
+    public ResponseEntity<List<CacheRegionStatsDto>> getCacheStats() {
+        return new ResponseEntity<>(cacheStatisticsService.getRegionStats(), HttpStatus.OK);
+    }
+
+    /**
+     * Reset the cache counters.
+     *
+     * @return HTTP 204.
+     */
+    @DeleteMapping("/cache-stats")
+    public ResponseEntity<Void> clearCacheStats() {
+        cacheStatisticsService.clearStats();
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
+    /**
+     * Get the outbox backlog, its lag and the relay counters.
+     *
+     * @return Outbox statistics.
+     */
+    @GetMapping("/outbox-stats")
+    public ResponseEntity<OutboxStatsDto> getOutboxStats() {
+        return new ResponseEntity<>(outboxRelay.getStats(), HttpStatus.OK);
+    }
+
+    /**
+     * Relay the pending outbox events now instead of waiting for the schedule.
+     *
+     * @return Outbox statistics after the run.
+     */
+    @PostMapping("/outbox/relay")
+    public ResponseEntity<OutboxStatsDto> relayOutbox() {
+        outboxRelay.relayPending();
+        return new ResponseEntity<>(outboxRelay.getStats(), HttpStatus.OK);
+    }
+
+    /**
+     * Put the parked outbox events back in the queue.
+     *
+     * @return Outbox statistics after requeueing.
+     */
+    @PostMapping("/outbox/requeue-parked")
+    public ResponseEntity<OutboxStatsDto> requeueParkedOutboxEvents() {
+        outboxRelay.requeueParked();
+        return new ResponseEntity<>(outboxRelay.getStats(), HttpStatus.OK);
+    }
+}
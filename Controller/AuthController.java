@@ -0,0 +1,92 @@
+package com.example.volunteer_platform.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import com.example.volunteer_platform.config.TokenAuthenticationFilter;
+import com.example.volunteer_platform.dto.CacheStatsDto;
+import com.example.volunteer_platform.dto.LoginDto;
+import com.example.volunteer_platform.dto.LoginResponseDto;
+import com.example.volunteer_platform.dto.UserPrincipal;
+import com.example.volunteer_platform.model.User;
+import com.example.volunteer_platform.service.PrincipalCache;
+import com.example.volunteer_platform.service.TokenService;
+import com.example.volunteer_platform.service.UserService;
+
+import jakarta.validation.Valid;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * AuthController handles API endpoints for authenticating users.
+ */
+@RestController
+@RequestMapping("/api/auth")
+public class AuthController {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    /**
+     * Log in with an email and password.
+     *
+     * @param loginDto Login credentials.
+     * @return The user's ID, type and bearer token, HTTP 401 for invalid credentials,
+     *         or HTTP 503 if password hashing is saturated.
+     */
+    @PostMapping("/login")
+    public ResponseEntity<LoginResponseDto> login(@RequestBody @Valid LoginDto loginDto) {
+        Optional<User> userOpt;
+        try {
+            userOpt = userService.authenticate(loginDto.getEmail(), loginDto.getPassword());
+        } catch (RejectedExecutionException e) {
+            return new ResponseEntity<>(HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        if (userOpt.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
+        }
+        User user = userOpt.get();
+        Instant now = Instant.now();
+        LoginResponseDto body = new LoginResponseDto(user.getId(), UserPrincipal.from(user).getUserType(),
+                tokenService.issue(user.getId(), now), tokenService.expiryFor(now));
+        return new ResponseEntity<>(body, HttpStatus.OK);
+    }
+
+    /**
+     * Get the user the request's bearer token was issued to.
+     *
+     * @param principal Principal set by TokenAuthenticationFilter.
+     * @return Authenticated user or HTTP 401 if the request carries no token.
+     */
+    @GetMapping("/me")
+    public ResponseEntity<UserPrincipal> getCurrentUser(
+            @RequestAttribute(name = TokenAuthenticationFilter.PRINCIPAL_ATTRIBUTE, required = false) UserPrincipal principal) {
+        if (principal == null) {
+            return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
+        }
+        return new ResponseEntity<>(principal, HttpStatus.OK);
+    }
+
+    /**
+     * Get the hit and miss counters of the principal cache.
+     *
+     * @return Principal cache statistics.
+     */
+    @GetMapping("/principal-cache-stats")
+    public ResponseEntity<CacheStatsDto> getPrincipalCacheStats() {
+        return new ResponseEntity<>(principalCache.getStats(), HttpStatus.OK);
+    }
+}
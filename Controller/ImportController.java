@@ -0,0 +1,82 @@
+package com.example.volunteer_platform.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import com.example.volunteer_platform.dto.ImportReport;
+import com.example.volunteer_platform.service.BulkImportService;
+import com.example.volunteer_platform.service.UserService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * ImportController handles bulk uploads of tasks, volunteers and skill assignments.
+ * The request body is NDJSON (one JSON object per line) or, with Content-Type text/csv, CSV with a header line.
+ * In CSV uploads the skills column holds skill names separated by semicolons.
+ */
+@RestController
+@RequestMapping("/api")
+public class ImportController {
+
+    private static final String CSV = "text/csv";
+
+    @Autowired
+    private BulkImportService bulkImportService;
+
+    @Autowired
+    private UserService userService;
+
+    /**
+     * Import tasks for an organization.
+     *
+     * @param organizationId Organization ID.
+     * @param request Upload with one task per line.
+     * @return Import report or HTTP 404 if the organization is not found.
+     * @throws IOException If the upload cannot be read.
+     */
+    @PostMapping("/organizations/{organizationId}/tasks/import")
+    public ResponseEntity<ImportReport> importTasks(@PathVariable Long organizationId, HttpServletRequest request) throws IOException {
+        if (userService.findOrganizationById(organizationId).isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        ImportReport report = bulkImportService.importTasks(organizationId, request.getInputStream(), isCsv(request));
+        return new ResponseEntity<>(report, HttpStatus.OK);
+    }
+
+    /**
+     * Import volunteers.
+     *
+     * @param request Upload with one volunteer per line.
+     * @return Import report.
+     * @throws IOException If the upload cannot be read.
+     */
+    @PostMapping("/volunteers/import")
+    public ResponseEntity<ImportReport> importVolunteers(HttpServletRequest request) throws IOException {
+        ImportReport report = bulkImportService.importVolunteers(request.getInputStream(), isCsv(request));
+        return new ResponseEntity<>(report, HttpStatus.OK);
+    }
+
+    /**
+     * Add skills to existing tasks and volunteers.
+     *
+     * @param request Upload with one taskId or volunteerId and its skills per line.
+     * @return Import report.
+     * @throws IOException If the upload cannot be read.
+     */
+    @PostMapping("/skills/assignments/import")
+    public ResponseEntity<ImportReport> importSkillAssignments(HttpServletRequest request) throws IOException {
+        ImportReport report = bulkImportService.importSkillAssignments(request.getInputStream(), isCsv(request));
+        return new ResponseEntity<>(report, HttpStatus.OK);
+    }
+
+    private static boolean isCsv(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return contentType != null && contentType.toLowerCase(Locale.ROOT).startsWith(CSV);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.volunteer_platform.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import com.example.volunteer_platform.dto.SkillMatchDto;
+import com.example.volunteer_platform.service.SkillMatchingService;
+
+import java.util.List;
+
+/**
+ * MatchingController handles API endpoints for skill-based matching between volunteers and tasks.
+ */
+@RestController
+@RequestMapping("/api")
+public class MatchingController {
+
+    private static final int MAX_LIMIT = 100;
+
+    @Autowired
+    private SkillMatchingService skillMatchingService;
+
+    /**
+     * Get the available tasks that best match a volunteer's skills.
+     *
+     * @param volunteerId Volunteer ID.
+     * @param limit Maximum number of tasks to return.
+     * @return Task matches ordered by shared skills or HTTP 204 if there are none.
+     */
+    @GetMapping("/volunteers/{volunteerId}/recommended-tasks")
+    public ResponseEntity<List<SkillMatchDto>> getRecommendedTasks(@PathVariable Long volunteerId,
+                                                                   @RequestParam(defaultValue = "10") int limit) {
+        List<SkillMatchDto> matches = skillMatchingService.recommendTasks(volunteerId, Math.min(limit, MAX_LIMIT));
+        if (matches.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        }
+        return new ResponseEntity<>(matches, HttpStatus.OK);
+    }
+
+    /**
+     * Get the volunteers whose skills best match a task's required skills.
+     *
+     * @param taskId Task ID.
+     * @param limit Maximum number of volunteers to return.
+     * @return Volunteer matches ordered by shared skills or HTTP 204 if there are none.
+     */
+    @GetMapping("/tasks/{taskId}/candidate-volunteers")
+    public ResponseEntity<List<SkillMatchDto>> getCandidateVolunteers(@PathVariable Long taskId,
+                                                                      @RequestParam(defaultValue = "10") int limit) {
+        List<SkillMatchDto> matches = skillMatchingService.findCandidateVolunteers(taskId, Math.min(limit, MAX_LIMIT));
+        if (matches.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        }
+        return new ResponseEntity<>(matches, HttpStatus.OK);
+    }
+}
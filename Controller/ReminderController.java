@@ -0,0 +1,42 @@
+package com.example.volunteer_platform.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import com.example.volunteer_platform.dto.ReminderStatsDto;
+import com.example.volunteer_platform.service.ReminderService;
+
+/**
+ * ReminderController exposes the reminder dispatcher's statistics and a manual trigger.
+ */
+@RestController
+@RequestMapping("/api/reminders")
+public class ReminderController {
+
+    @Autowired
+    private ReminderService reminderService;
+
+    /**
+     * Get the reminder throughput counters.
+     *
+     * @return Reminder statistics.
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<ReminderStatsDto> getReminderStats() {
+        return new ResponseEntity<>(reminderService.getStats(), HttpStatus.OK);
+    }
+
+    /**
+     * Send the due reminders now instead of waiting for the schedule.
+     *
+     * @return Reminder statistics after the run.
+     */
+    @PostMapping("/dispatch")
+    public ResponseEntity<ReminderStatsDto> dispatchReminders() {
+        return new ResponseEntity<>(reminderService.dispatchDueReminders(), HttpStatus.OK);
+    }
+}
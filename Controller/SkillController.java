@@ -4,6 +4,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import com.example.volunteer_platform.dto.CacheStatsDto;
 import com.example.volunteer_platform.dto.SkillDto;
 import com.example.volunteer_platform.model.Skill;
 import com.example.volunteer_platform.model.Task;
@@ -60,8 +61,7 @@ public class SkillController {
         if (skill != null) {
             return new ResponseEntity<>(skill, HttpStatus.OK);
         } else {
-            SkillDto newSkillDto = new SkillDto(name);
-            return saveSkill(newSkillDto);
+            return new ResponseEntity<>(skillService.findOrCreateByName(name), HttpStatus.CREATED);
         }
     }
 
@@ -93,8 +93,7 @@ public class SkillController {
             return new ResponseEntity<>(HttpStatus.CONFLICT);
         }
         try {
-            Skill skill = Skill.builder().name(skillDto.getName().toLowerCase()).build();
-            skillService.saveSkill(skill);
+            Skill skill = skillService.findOrCreateByName(skillDto.getName());
             return new ResponseEntity<>(skill, HttpStatus.CREATED);
         } catch (Exception e) {
             return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
@@ -117,6 +116,16 @@ public class SkillController {
         return new ResponseEntity<>(HttpStatus.NOT_FOUND);
     }
 
+    /**
+     * Retrieves the hit and miss counters of the skill cache.
+     *
+     * @return Skill cache statistics.
+     */
+    @GetMapping("/skills/cache-stats")
+    public ResponseEntity<CacheStatsDto> getSkillCacheStats() {
+        return new ResponseEntity<>(skillService.getCacheStats(), HttpStatus.OK);
+    }
+
     // Volunteer Skills APIs
     /**
      * Retrieves all skills associated with a volunteer.
@@ -151,13 +160,7 @@ public class SkillController {
         }
 
         Volunteer volunteer = volunteerOpt.get();
-        Skill skill = skillService.findByName(skillDto.getName().toLowerCase()).orElse(null);
-
-        if (skill == null) {
-            skill = new Skill();
-            skill.setName(skillDto.getName().toLowerCase());
-            skillService.saveSkill(skill);
-        }
+        Skill skill = skillService.findOrCreateByName(skillDto.getName());
 
         volunteer.getSkills().add(skill);
         userService.saveUser(volunteer);
@@ -224,13 +227,7 @@ public class SkillController {
         }
 
         Task task = taskOpt.get();
-        Skill skill = skillService.findByName(skillDto.getName().toLowerCase()).orElse(null);
-
-        if (skill == null) {
-            skill = new Skill();
-            skill.setName(skillDto.getName().toLowerCase());
-            skillService.saveSkill(skill);
-        }
+        Skill skill = skillService.findOrCreateByName(skillDto.getName());
 
         task.getSkills().add(skill);
         taskService.saveTask(task);
@@ -1,14 +1,25 @@
 package com.example.volunteer_platform.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import com.example.volunteer_platform.dto.BulkDeleteResult;
+import com.example.volunteer_platform.dto.CursorPage;
+import com.example.volunteer_platform.dto.NearbyTaskDto;
+import com.example.volunteer_platform.dto.OrganizationStatsDto;
 import com.example.volunteer_platform.dto.TaskDto;
 import com.example.volunteer_platform.dto.TaskPartialDto;
+import com.example.volunteer_platform.dto.TaskSummaryDto;
+import com.example.volunteer_platform.enums.TaskStatus;
 import com.example.volunteer_platform.model.*;
-import com.example.volunteer_platform.service.TaskSignupService;
+import com.example.volunteer_platform.service.SignupStatsService;
 import com.example.volunteer_platform.service.UserService;
+import com.example.volunteer_platform.service.TaskGeoIndex;
 import com.example.volunteer_platform.service.TaskService;
 
 import jakarta.validation.Valid;
@@ -23,6 +34,9 @@ import java.util.Optional;
 @RequestMapping("/api")
 public class TaskController {
 
+    private static final double MAX_NEARBY_RADIUS_KM = 200;
+    private static final int MAX_DATE_RANGE_DAYS = 366;
+
     @Autowired
     private TaskService taskService;
 
@@ -30,16 +44,31 @@ public class TaskController {
     private UserService userService;
 
     @Autowired
-    private TaskSignupService taskSignupService;
+    private SignupStatsService signupStatsService;
 
     /**
-     * Get all tasks posted by any organization.
+     * Get all tasks posted by any organization, or only those taking place in a date range.
      *
-     * @return List of tasks or HTTP 204 if no tasks exist.
+     * @param from First event date (yyyy-MM-dd), inclusive; requires {@code to}.
+     * @param to Last event date (yyyy-MM-dd), inclusive; requires {@code from}.
+     * @param status With a date range, only return tasks with this status; omit for all tasks.
+     * @param limit With a date range, maximum number of tasks to return.
+     * @return List of tasks ordered by event date when a range is given, HTTP 204 if no tasks exist,
+     *         or HTTP 400 for an incomplete, reversed or over one year long range.
      */
     @GetMapping("/tasks")
-    public ResponseEntity<List<Task>> getAllTasks() {
-        List<Task> tasks = taskService.getAllTasks();
+    public ResponseEntity<List<Task>> getAllTasks(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                  @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                  @RequestParam(required = false) TaskStatus status,
+                                                  @RequestParam(defaultValue = "100") int limit) {
+        List<Task> tasks;
+        if (from == null && to == null) {
+            tasks = taskService.getAllTasks();
+        } else if (from == null || to == null || to.isBefore(from) || from.plusDays(MAX_DATE_RANGE_DAYS).isBefore(to)) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        } else {
+            tasks = taskService.getTasksByEventDate(from, to, status, Math.max(1, Math.min(limit, 500)));
+        }
 
         if (tasks.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);
@@ -47,6 +76,44 @@ public class TaskController {
         return new ResponseEntity<>(tasks, HttpStatus.OK);
     }
 
+    /**
+     * Get all tasks as one JSON array, ordered by ID, written while the tasks are read.
+     * Unlike GET /tasks, an empty table returns an empty array.
+     *
+     * @return Streamed JSON array of tasks.
+     */
+    @GetMapping("/tasks/stream")
+    public ResponseEntity<StreamingResponseBody> streamAllTasks() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        StreamingResponseBody body = out -> taskService.writeAllTasks(out);
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
+    }
+
+    /**
+     * Get one page of tasks, ordered by ID.
+     *
+     * @param cursor ID of the last task from the previous page; omit for the first page.
+     * @param size Maximum number of tasks to return.
+     * @param fields Comma-separated task fields to return; omit for full tasks.
+     * @param status Only return tasks with this status; omit for all tasks.
+     * @return Page of tasks with the cursor for the next page, or HTTP 400 for an unknown field.
+     */
+    @GetMapping("/tasks/page")
+    public ResponseEntity<CursorPage<?>> getTaskPage(@RequestParam(required = false) Long cursor,
+                                                     @RequestParam(defaultValue = "50") int size,
+                                                     @RequestParam(required = false) String fields,
+                                                     @RequestParam(required = false) TaskStatus status) {
+        if (fields == null) {
+            return new ResponseEntity<>(taskService.getTaskPage(cursor, size, status), HttpStatus.OK);
+        }
+        try {
+            return new ResponseEntity<>(taskService.getTaskFieldsPage(fields, cursor, size, status), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
     /**
      * Get a task by its ID.
      *
@@ -63,44 +130,70 @@ public class TaskController {
         }
     }
 
-    // GET or Search tasks by name, location, or description (will implement later)
-//    @GetMapping("/search")
-//    public ResponseEntity<List<Task>> searchTasks(
-//            @RequestParam(required = false) String title,
-//            @RequestParam(required = false) String location,
-//            @RequestParam(required = false) String description) {
-//
-//        List<Task> tasks = taskService.searchTasks(title, location, description);
-//
-//        if (tasks.isEmpty()) {
-//            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
-//        }
-//
-//        return new ResponseEntity<>(tasks, HttpStatus.OK);
-//    }
+    /**
+     * Search tasks by title, description, location and required skills, ranked by relevance.
+     *
+     * @param q Search query.
+     * @param status Only return tasks with this status; omit for all tasks.
+     * @param limit Maximum number of tasks to return.
+     * @return Ranked list of tasks or HTTP 204 if nothing matches.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<Task>> searchTasks(@RequestParam String q,
+                                                  @RequestParam(required = false) TaskStatus status,
+                                                  @RequestParam(defaultValue = "20") int limit) {
+        List<Task> tasks = taskService.searchTasks(q, status, Math.max(1, Math.min(limit, 100)));
+
+        if (tasks.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        }
 
+        return new ResponseEntity<>(tasks, HttpStatus.OK);
+    }
+
+    /**
+     * Find available tasks near a point, within a radius.
+     *
+     * @param lat Latitude in degrees.
+     * @param lon Longitude in degrees.
+     * @param radius Search radius in kilometres.
+     * @param limit Maximum number of tasks to return.
+     * @param sort "distance" for nearest first or "date" for soonest event first.
+     * @return Nearby tasks with their distance, HTTP 204 if none, or HTTP 400 for invalid coordinates or radius.
+     */
+    @GetMapping("/tasks/nearby")
+    public ResponseEntity<List<NearbyTaskDto>> getNearbyTasks(@RequestParam double lat,
+                                                              @RequestParam double lon,
+                                                              @RequestParam(defaultValue = "10") double radius,
+                                                              @RequestParam(defaultValue = "20") int limit,
+                                                              @RequestParam(defaultValue = "distance") String sort) {
+        if (lat < -90 || lat > 90 || lon < -180 || lon > 180 || radius <= 0 || radius > MAX_NEARBY_RADIUS_KM) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        TaskGeoIndex.SortOrder order = "date".equalsIgnoreCase(sort)
+                ? TaskGeoIndex.SortOrder.EVENT_DATE : TaskGeoIndex.SortOrder.DISTANCE;
+        List<NearbyTaskDto> tasks = taskService.findNearbyTasks(lat, lon, radius, Math.max(1, Math.min(limit, 100)), order);
+
+        if (tasks.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        }
+        return new ResponseEntity<>(tasks, HttpStatus.OK);
+    }
 
     /**
      * Delete a task by its ID (Admin only).
      *
      * @param taskId Task ID.
-     * @return HTTP 204 if deleted, HTTP 404 if not found.
+     * @return HTTP 200 with the row counts removed if deleted, HTTP 404 if not found.
      */
     @DeleteMapping("/tasks/delete/{taskId}")
-    public ResponseEntity<Void> deleteTask(@PathVariable Long taskId) {
+    public ResponseEntity<BulkDeleteResult> deleteTask(@PathVariable Long taskId) {
         Optional<Task> task = taskService.findById(taskId);
         if (task.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
 
-        List<TaskSignup> signups = taskSignupService.getTaskSignups(taskId);
-
-        for (TaskSignup signup : signups) {
-            taskSignupService.deleteById(signup.getSignupId());
-        }
-
-        taskService.deleteByTaskId(taskId);
-        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        return new ResponseEntity<>(taskService.deleteTaskWithSignups(taskId), HttpStatus.OK);
     }
 
     // Organization Tasks APIs
@@ -111,13 +204,27 @@ public class TaskController {
      * @return List of tasks for the organization or HTTP 404 if not found.
      */
     @GetMapping("/organizations/{organizationId}/tasks")
-    public ResponseEntity<List<Task>> getOrganizationTasks(@PathVariable Long organizationId) {
+    public ResponseEntity<List<TaskSummaryDto>> getOrganizationTasks(@PathVariable Long organizationId) {
         Optional<Organization> organizationOpt = userService.findOrganizationById(organizationId);
         if (organizationOpt.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
-        Organization organization = organizationOpt.get();
-        return new ResponseEntity<>(organization.getTasks(), HttpStatus.OK);
+        return new ResponseEntity<>(taskService.getOrganizationTaskSummaries(organizationId), HttpStatus.OK);
+    }
+
+    /**
+     * Get dashboard statistics for an organization: signup counts and fill rate per task, totals and upcoming events.
+     *
+     * @param organizationId Organization ID.
+     * @return Organization statistics or HTTP 404 if not found.
+     */
+    @GetMapping("/organizations/{organizationId}/stats")
+    public ResponseEntity<OrganizationStatsDto> getOrganizationStats(@PathVariable Long organizationId) {
+        Optional<Organization> organizationOpt = userService.findOrganizationById(organizationId);
+        if (organizationOpt.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        return new ResponseEntity<>(signupStatsService.getOrganizationStats(organizationId), HttpStatus.OK);
     }
 
     /**
@@ -128,7 +235,7 @@ public class TaskController {
      * @return Created task or HTTP 400 for invalid input.
      */
     @PostMapping("/organizations/{organizationId}/tasks")
-    public ResponseEntity<Organization> addTaskToOrganization(@PathVariable Long organizationId, @RequestBody @Valid TaskDto taskDto) {
+    public ResponseEntity<TaskSummaryDto> addTaskToOrganization(@PathVariable Long organizationId, @RequestBody @Valid TaskDto taskDto) {
         Optional<Organization> organizationOpt = userService.findOrganizationById(organizationId);
         if (organizationOpt.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
@@ -150,16 +257,19 @@ public class TaskController {
             task.setTitle(taskDto.getTitle());
             task.setDescription(taskDto.getDescription());
             task.setLocation(taskDto.getLocation());
+            task.setLatitude(taskDto.getLatitude());
+            task.setLongitude(taskDto.getLongitude());
             task.setEventDate(taskDto.getEventDate());
             task.setCancellationDeadline(taskDto.getCancellationDeadline());
             task.setApplicationDeadline(taskDto.getApplicationDeadline());
+            task.setCapacity(taskDto.getCapacity());
             taskService.saveTask(task);
         } catch (Exception e) {
             return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         }
         organization.getTasks().add(task);
         userService.saveUser(organization);
-        return new ResponseEntity<>(organization, HttpStatus.OK);
+        return new ResponseEntity<>(TaskSummaryDto.from(task), HttpStatus.OK);
     }
 
     /**
@@ -168,15 +278,14 @@ public class TaskController {
      * @param organizationId Organization ID.
      * @param taskId Task ID.
      * @param updatedTask TaskPartialDto updatedTask details.
-     * @return Updated organization or HTTP 404 if not found.
+     * @return Updated task or HTTP 404 if not found.
      */
     @PutMapping("/organizations/{organizationId}/tasks/{taskId}")
-    public ResponseEntity<Organization> updateTaskInOrganization(@PathVariable Long organizationId, @PathVariable Long taskId, @RequestBody @Valid TaskPartialDto updatedTask) {
+    public ResponseEntity<TaskSummaryDto> updateTaskInOrganization(@PathVariable Long organizationId, @PathVariable Long taskId, @RequestBody @Valid TaskPartialDto updatedTask) {
         Optional<Organization> organizationOpt = userService.findOrganizationById(organizationId);
         if (organizationOpt.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
-        Organization organization = organizationOpt.get();
         Task existingTask = taskService.findById(taskId).orElse(null);
         if (existingTask == null) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
@@ -185,12 +294,14 @@ public class TaskController {
             existingTask.setTitle(updatedTask.getTitle() != null ? updatedTask.getTitle() : existingTask.getTitle());
             existingTask.setDescription(updatedTask.getDescription() != null ? updatedTask.getDescription() : existingTask.getDescription());
             existingTask.setLocation(updatedTask.getLocation() != null ? updatedTask.getLocation() : existingTask.getLocation());
+            existingTask.setLatitude(updatedTask.getLatitude() != null ? updatedTask.getLatitude() : existingTask.getLatitude());
+            existingTask.setLongitude(updatedTask.getLongitude() != null ? updatedTask.getLongitude() : existingTask.getLongitude());
         } catch (Exception e) {
             return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         }
 
         taskService.saveTask(existingTask);
-        return new ResponseEntity<>(organization, HttpStatus.OK);
+        return new ResponseEntity<>(TaskSummaryDto.from(existingTask), HttpStatus.OK);
     }
 
     /**
@@ -198,29 +309,17 @@ public class TaskController {
      *
      * @param organizationId Organization ID.
      * @param taskId Task ID.
-     * @return Updated organization or HTTP 404 if not found.
+     * @return HTTP 200 with the row counts removed if deleted, HTTP 404 if not found.
      */
     @DeleteMapping("/organizations/{organizationId}/tasks/{taskId}")
-    public ResponseEntity<Organization> deleteTaskInOrganization(@PathVariable Long organizationId, @PathVariable Long taskId) {
-        Optional<Organization> organizationOpt = userService.findOrganizationById(organizationId);
-        if (organizationOpt.isEmpty()) {
+    public ResponseEntity<BulkDeleteResult> deleteTaskInOrganization(@PathVariable Long organizationId, @PathVariable Long taskId) {
+        if (userService.findOrganizationById(organizationId).isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
-        Organization organization = organizationOpt.get();
-        Task existingTask = taskService.findById(taskId).orElse(null);
-        if (existingTask == null) {
+        if (taskService.findById(taskId).isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
 
-        List<TaskSignup> signups = taskSignupService.getTaskSignups(taskId);
-
-        for (TaskSignup signup : signups) {
-            taskSignupService.deleteById(signup.getSignupId());
-        }
-
-        organization.getTasks().remove(existingTask);
-        userService.saveUser(organization);
-        taskService.deleteByTaskId(taskId);
-        return new ResponseEntity<>(organization, HttpStatus.OK);
+        return new ResponseEntity<>(taskService.deleteTaskWithSignups(taskId), HttpStatus.OK);
     }
 }
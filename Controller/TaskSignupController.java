@@ -1,7 +1,10 @@
 package com.example.volunteer_platform.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -9,17 +12,25 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import com.example.volunteer_platform.dto.CursorPage;
+import com.example.volunteer_platform.dto.SignupHistoryPage;
+import com.example.volunteer_platform.dto.SignupOutcome;
 import com.example.volunteer_platform.dto.TaskSignupDto;
+import com.example.volunteer_platform.dto.TaskSignupViewDto;
 import com.example.volunteer_platform.model.Task;
 import com.example.volunteer_platform.model.TaskSignup;
 import com.example.volunteer_platform.model.Volunteer;
+import com.example.volunteer_platform.service.SignupHistoryService;
 import com.example.volunteer_platform.service.TaskService;
 import com.example.volunteer_platform.service.TaskSignupService;
 import com.example.volunteer_platform.service.UserService;
 
 import jakarta.validation.Valid;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,6 +50,9 @@ public class TaskSignupController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private SignupHistoryService signupHistoryService;
+
     /**
      * Get all volunteers signed up for tasks.
      *
@@ -54,6 +68,33 @@ public class TaskSignupController {
         return new ResponseEntity<>(signups, HttpStatus.OK);
     }
 
+    /**
+     * Get all task signups as one JSON array, ordered by signup ID, written while the signups are read.
+     * Unlike GET /api/task-signups, an empty table returns an empty array.
+     *
+     * @return Streamed JSON array of task signups.
+     */
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamAllSignups() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        StreamingResponseBody body = out -> taskSignupService.writeAllSignups(out);
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
+    }
+
+    /**
+     * Get one page of task signups, ordered by signup ID.
+     *
+     * @param cursor ID of the last signup from the previous page; omit for the first page.
+     * @param size Maximum number of signups to return.
+     * @return Page of task signups with the cursor for the next page.
+     */
+    @GetMapping("/page")
+    public ResponseEntity<CursorPage<TaskSignup>> getSignupPage(@RequestParam(required = false) Long cursor,
+                                                                @RequestParam(defaultValue = "50") int size) {
+        return new ResponseEntity<>(taskSignupService.getSignupPage(cursor, size), HttpStatus.OK);
+    }
+
     /**
      * Get all task signups by a specific volunteer.
      *
@@ -61,12 +102,12 @@ public class TaskSignupController {
      * @return List of task signups or HTTP 404 if volunteer not found.
      */
     @GetMapping("/volunteer/{volunteerId}")
-    public ResponseEntity<List<TaskSignup>> getUserSignups(@PathVariable Long volunteerId) {
+    public ResponseEntity<List<TaskSignupViewDto>> getUserSignups(@PathVariable Long volunteerId) {
         Optional<Volunteer> volunteerOpt = userService.findVolunteerById(volunteerId);
         if (volunteerOpt.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
-        List<TaskSignup> signups = taskSignupService.getUserSignups(volunteerId);
+        List<TaskSignupViewDto> signups = taskSignupService.getUserSignupViews(volunteerId);
 
         if (signups.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);
@@ -74,6 +115,51 @@ public class TaskSignupController {
         return new ResponseEntity<>(signups, HttpStatus.OK);
     }
 
+    /**
+     * Get one page of a volunteer's signup history, newest first.
+     *
+     * @param volunteerId Volunteer ID.
+     * @param before Signup date of the last row from the previous page; omit for the first page.
+     * @param beforeId Signup ID of the last row from the previous page; omit for the first page.
+     * @param size Maximum number of rows to return.
+     * @return Page of history rows with the cursor for the next page, or HTTP 404 if volunteer not found.
+     */
+    @GetMapping("/volunteer/{volunteerId}/history")
+    public ResponseEntity<SignupHistoryPage> getSignupHistory(@PathVariable Long volunteerId,
+                                                              @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime before,
+                                                              @RequestParam(required = false) Long beforeId,
+                                                              @RequestParam(defaultValue = "50") int size) {
+        if (userService.findVolunteerById(volunteerId).isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        return new ResponseEntity<>(signupHistoryService.getHistoryPage(volunteerId, before, beforeId, size), HttpStatus.OK);
+    }
+
+    /**
+     * Export a volunteer's whole signup history, newest first, streamed as it is read.
+     *
+     * @param volunteerId Volunteer ID.
+     * @param format "csv" for CSV with a header line, or "ndjson" for one JSON object per line.
+     * @return Streamed export, HTTP 400 for an unknown format, or HTTP 404 if volunteer not found.
+     */
+    @GetMapping("/volunteer/{volunteerId}/history/export")
+    public ResponseEntity<StreamingResponseBody> exportSignupHistory(@PathVariable Long volunteerId,
+                                                                     @RequestParam(defaultValue = "csv") String format) {
+        boolean csv = "csv".equalsIgnoreCase(format);
+        if (!csv && !"ndjson".equalsIgnoreCase(format)) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        if (userService.findVolunteerById(volunteerId).isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(csv ? new MediaType("text", "csv") : new MediaType("application", "x-ndjson"));
+        headers.set(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"signup-history-" + volunteerId + (csv ? ".csv" : ".ndjson") + "\"");
+        StreamingResponseBody body = out -> signupHistoryService.exportHistory(volunteerId, csv, out);
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
+    }
+
     /**
      * Get all task signups for a specific task.
      *
@@ -81,12 +167,12 @@ public class TaskSignupController {
      * @return List of task signups or HTTP 404 if task not found.
      */
     @GetMapping("/task/{taskId}")
-    public ResponseEntity<List<TaskSignup>> getTaskSignups(@PathVariable Long taskId) {
+    public ResponseEntity<List<TaskSignupViewDto>> getTaskSignups(@PathVariable Long taskId) {
         Optional<Task> taskOpt = taskService.findById(taskId);
         if (taskOpt.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
-        List<TaskSignup> signups = taskSignupService.getTaskSignups(taskId);
+        List<TaskSignupViewDto> signups = taskSignupService.getTaskSignupViews(taskId);
 
         if (signups.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);
@@ -98,10 +184,11 @@ public class TaskSignupController {
      * Sign up a volunteer for a task.
      *
      * @param request TaskSignupDto containing volunteer and task IDs.
-     * @return Created TaskSignup or HTTP 404 if task or volunteer not found.
+     * @return Created TaskSignup, HTTP 404 if task or volunteer not found, HTTP 409 if the task is full,
+     *         or HTTP 400 if the task is no longer open.
      */
     @PostMapping
-    public ResponseEntity<TaskSignup> signUpForTask(@RequestBody @Valid TaskSignupDto request) {
+    public ResponseEntity<TaskSignupViewDto> signUpForTask(@RequestBody @Valid TaskSignupDto request) {
         try {
             Optional<Task> taskOptional = taskService.findById(request.getTaskId());
             Optional<Volunteer> userOptional = userService.findVolunteerById(request.getVolunteerId());
@@ -113,22 +200,18 @@ public class TaskSignupController {
             Task task = taskOptional.get();
             Volunteer volunteer = userOptional.get();
 
-            if (LocalDate.now().isAfter(task.getApplicationDeadline())) {
-                return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+            // Tasks past their application deadline are ENDED by TaskLifecycleService and rejected as NOT_OPEN
+            SignupOutcome outcome = taskSignupService.signUp(task, volunteer);
+            switch (outcome.getResult()) {
+                case CREATED:
+                    return new ResponseEntity<>(TaskSignupViewDto.from(outcome.getSignup()), HttpStatus.CREATED);
+                case ALREADY_SIGNED_UP:
+                    return new ResponseEntity<>(TaskSignupViewDto.from(outcome.getSignup()), HttpStatus.FOUND); // Return existing if signup already exists
+                case TASK_FULL:
+                    return new ResponseEntity<>(HttpStatus.CONFLICT);
+                default:
+                    return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
             }
-
-            Optional<TaskSignup> existingSignup = taskSignupService.findByTaskIdAndVolunteerId(task.getId(), volunteer.getId());
-            if (existingSignup.isPresent()) {
-                return new ResponseEntity<>(existingSignup.get(), HttpStatus.FOUND); // Return existing if signup already exists
-            }
-
-            TaskSignup taskSignup = TaskSignup.builder()
-                    .task(task)
-                    .volunteer(volunteer)
-                    .build();
-
-            taskSignupService.save(taskSignup);
-            return new ResponseEntity<>(taskSignup, HttpStatus.CREATED);
         } catch (Exception e) {
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
         }
@@ -154,7 +237,7 @@ public class TaskSignupController {
             return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         }
 
-        taskSignupService.deleteById(signup.getSignupId());
+        taskSignupService.cancel(signup);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
 
@@ -177,7 +260,7 @@ public class TaskSignupController {
             return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         }
 
-        taskSignupService.deleteById(signupId);
+        taskSignupService.cancel(signup);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
 }
@@ -1,18 +1,25 @@
 package com.example.volunteer_platform.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import com.example.volunteer_platform.service.PasswordService;
 import com.example.volunteer_platform.service.UserService;
+import com.example.volunteer_platform.service.VolunteerOverviewService;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import com.example.volunteer_platform.dto.*;
 import com.example.volunteer_platform.model.*;
-import com.example.volunteer_platform.service.TaskService;
-import com.example.volunteer_platform.service.TaskSignupService;
 
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * UserController handles API endpoints for managing users, organizations, and volunteers
@@ -25,10 +32,10 @@ public class UserController {
 	private UserService userService;
 
 	@Autowired
-	private TaskService taskService;
+	private VolunteerOverviewService volunteerOverviewService;
 
 	@Autowired
-	private TaskSignupService taskSignupService;
+	private PasswordService passwordService;
 
 	// User APIs (Both organizations and volunteers)
 	/**
@@ -45,6 +52,33 @@ public class UserController {
 		return new ResponseEntity<>(allUsers, HttpStatus.OK);
 	}
 
+	/**
+	 * Get all users as one JSON array, ordered by ID, written while the users are read.
+	 * Unlike GET /users, an empty table returns an empty array.
+	 *
+	 * @return Streamed JSON array of users.
+	 */
+	@GetMapping("/users/stream")
+	public ResponseEntity<StreamingResponseBody> streamAllUsers() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.APPLICATION_JSON);
+		StreamingResponseBody body = out -> userService.writeAllUsers(out);
+		return new ResponseEntity<>(body, headers, HttpStatus.OK);
+	}
+
+	/**
+	 * Get one page of users, ordered by ID.
+	 *
+	 * @param cursor ID of the last user from the previous page; omit for the first page.
+	 * @param size Maximum number of users to return.
+	 * @return Page of users with the cursor for the next page.
+	 */
+	@GetMapping("/users/page")
+	public ResponseEntity<CursorPage<User>> getUserPage(@RequestParam(required = false) Long cursor,
+														@RequestParam(defaultValue = "50") int size) {
+		return new ResponseEntity<>(userService.getUserPage(cursor, size), HttpStatus.OK);
+	}
+
 	/**
 	 * Get a user by their ID.
 	 *
@@ -73,11 +107,24 @@ public class UserController {
 		return new ResponseEntity<>(organizations, HttpStatus.OK);
 	}
 
+	/**
+	 * Get one page of organizations, ordered by ID.
+	 *
+	 * @param cursor ID of the last organization from the previous page; omit for the first page.
+	 * @param size Maximum number of organizations to return.
+	 * @return Page of organizations with the cursor for the next page.
+	 */
+	@GetMapping("/organizations/page")
+	public ResponseEntity<CursorPage<Organization>> getOrganizationPage(@RequestParam(required = false) Long cursor,
+																		@RequestParam(defaultValue = "50") int size) {
+		return new ResponseEntity<>(userService.getOrganizationPage(cursor, size), HttpStatus.OK);
+	}
+
 	/**
 	 * Register a new organization.
 	 *
 	 * @param orgDTO Organization details
-	 * @return Registered organization or HTTP 400 for invalid input.
+	 * @return Registered organization, HTTP 400 for invalid input, or HTTP 503 if password hashing is saturated.
 	 */
 	@PostMapping("/organizations")
 	public ResponseEntity<Organization> registerOrganization(@RequestBody @Valid OrganizationDto orgDTO) {
@@ -85,12 +132,14 @@ public class UserController {
 			Organization org = new Organization();
 			org.setName(orgDTO.getName());
 			org.setEmail(orgDTO.getEmail());
-			org.setPassword(orgDTO.getPassword());
+			org.setPassword(passwordService.hash(orgDTO.getPassword()));
 			org.setPhoneNumber(orgDTO.getPhoneNumber());
 			org.setAddress(orgDTO.getAddress());
 			org.setWebsite(orgDTO.getWebsite());
 			userService.saveUser(org);
 			return new ResponseEntity<>(org, HttpStatus.CREATED);
+		} catch (RejectedExecutionException e) {
+			return new ResponseEntity<>(HttpStatus.SERVICE_UNAVAILABLE);
 		} catch (Exception e) {
 			return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
 		}
@@ -114,7 +163,7 @@ public class UserController {
 	 *
 	 * @param organizationId Organization ID.
 	 * @param updatedOrg Updated organization details.
-	 * @return Updated organization or HTTP 404 if not found.
+	 * @return Updated organization, HTTP 404 if not found, or HTTP 503 if password hashing is saturated.
 	 */
 	@PutMapping("/organizations/{organizationId}")
 	public ResponseEntity<Organization> updateOrganizationById(@PathVariable Long organizationId, @RequestBody @Valid OrganizationPartialDto updatedOrg) {
@@ -125,7 +174,13 @@ public class UserController {
 
 		existingOrg.setName(updatedOrg.getName() != null ? updatedOrg.getName() : existingOrg.getName());
 		existingOrg.setEmail(updatedOrg.getEmail() != null ? updatedOrg.getEmail() : existingOrg.getEmail());
-		existingOrg.setPassword(updatedOrg.getPassword() != null ? updatedOrg.getPassword() : existingOrg.getPassword());
+		if (updatedOrg.getPassword() != null) {
+			try {
+				existingOrg.setPassword(passwordService.hash(updatedOrg.getPassword()));
+			} catch (RejectedExecutionException e) {
+				return new ResponseEntity<>(HttpStatus.SERVICE_UNAVAILABLE);
+			}
+		}
 		existingOrg.setPhoneNumber(updatedOrg.getPhoneNumber() != null ? updatedOrg.getPhoneNumber() : existingOrg.getPhoneNumber());
 		existingOrg.setAddress(updatedOrg.getAddress() != null ? updatedOrg.getAddress() : existingOrg.getAddress());
 		existingOrg.setWebsite(updatedOrg.getWebsite() != null ? updatedOrg.getWebsite() : existingOrg.getWebsite());
@@ -138,30 +193,16 @@ public class UserController {
 	 * Delete an organization by its ID.
 	 *
 	 * @param organizationId Organization ID.
-	 * @return HTTP 204 if deleted, HTTP 404 if not found.
+	 * @return HTTP 200 with the row counts removed if deleted, HTTP 404 if not found.
 	 */
 	@DeleteMapping("/organizations/{organizationId}")
-	public ResponseEntity<Void> deleteOrganizationById(@PathVariable Long organizationId) {
+	public ResponseEntity<BulkDeleteResult> deleteOrganizationById(@PathVariable Long organizationId) {
 		Optional<Organization> organizationOpt = userService.findOrganizationById(organizationId);
 		if (organizationOpt.isEmpty()) {
 			return new ResponseEntity<>(HttpStatus.NOT_FOUND);
 		}
 
-		Organization organization = organizationOpt.get();
-		List<Task> tasks = organization.getTasks();
-
-		for (Task task : tasks) {
-			List<TaskSignup> signups = taskSignupService.getTaskSignups(task.getId());
-
-			for (TaskSignup signup : signups) {
-				taskSignupService.deleteById(signup.getSignupId());
-			}
-
-			taskService.deleteByTaskId(task.getId());
-		}
-
-		userService.deleteUserById(organizationId);
-		return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+		return new ResponseEntity<>(userService.deleteOrganizationWithTasks(organizationId), HttpStatus.OK);
 	}
 
 	// Volunteer APIs
@@ -179,11 +220,24 @@ public class UserController {
 		return new ResponseEntity<>(volunteers, HttpStatus.OK);
 	}
 
+	/**
+	 * Get one page of volunteers, ordered by ID.
+	 *
+	 * @param cursor ID of the last volunteer from the previous page; omit for the first page.
+	 * @param size Maximum number of volunteers to return.
+	 * @return Page of volunteers with the cursor for the next page.
+	 */
+	@GetMapping("/volunteers/page")
+	public ResponseEntity<CursorPage<Volunteer>> getVolunteerPage(@RequestParam(required = false) Long cursor,
+																  @RequestParam(defaultValue = "50") int size) {
+		return new ResponseEntity<>(userService.getVolunteerPage(cursor, size), HttpStatus.OK);
+	}
+
 	/**
 	 * Register a new volunteer.
 	 *
 	 * @param volunteerDTO Volunteer details.
-	 * @return Registered volunteer or HTTP 400 for invalid input.
+	 * @return Registered volunteer, HTTP 400 for invalid input, or HTTP 503 if password hashing is saturated.
 	 */
 	@PostMapping("/volunteers")
 	public ResponseEntity<Volunteer> registerVolunteer(@RequestBody @Valid VolunteerDto volunteerDTO) {
@@ -191,11 +245,13 @@ public class UserController {
 			Volunteer volunteer = new Volunteer();
 			volunteer.setName(volunteerDTO.getName());
 			volunteer.setEmail(volunteerDTO.getEmail());
-			volunteer.setPassword(volunteerDTO.getPassword());
+			volunteer.setPassword(passwordService.hash(volunteerDTO.getPassword()));
 			volunteer.setPhoneNumber(volunteerDTO.getPhoneNumber());
 			volunteer.setGender(volunteerDTO.getGender());
 			userService.saveUser(volunteer);
 			return new ResponseEntity<>(volunteer, HttpStatus.CREATED);
+		} catch (RejectedExecutionException e) {
+			return new ResponseEntity<>(HttpStatus.SERVICE_UNAVAILABLE);
 		} catch (Exception e) {
 			return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
 		}
@@ -214,12 +270,38 @@ public class UserController {
 				.orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
 	}
 
+	/**
+	 * Get a volunteer's signups, recommended tasks and rating summary in one call.
+	 *
+	 * @param volunteerId Volunteer ID.
+	 * @return Volunteer overview, HTTP 404 if not found, or HTTP 503 if the database is saturated.
+	 */
+	@GetMapping("/volunteers/{volunteerId}/overview")
+	public ResponseEntity<VolunteerOverviewDto> getVolunteerOverview(@PathVariable Long volunteerId) {
+		if (userService.findVolunteerById(volunteerId).isEmpty()) {
+			return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+		}
+		try {
+			return new ResponseEntity<>(volunteerOverviewService.getOverview(volunteerId), HttpStatus.OK);
+		} catch (CompletionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RejectedExecutionException || cause instanceof CannotCreateTransactionException
+					|| cause instanceof DataAccessResourceFailureException) {
+				return new ResponseEntity<>(HttpStatus.SERVICE_UNAVAILABLE); // No fan-out permit or no connection in time
+			}
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw e;
+		}
+	}
+
 	/**
 	 * Update a volunteer's details.
 	 *
 	 * @param volunteerId Volunteer ID.
 	 * @param updatedVol Updated volunteer details.
-	 * @return Updated volunteer or HTTP 404 if not found.
+	 * @return Updated volunteer, HTTP 404 if not found, or HTTP 503 if password hashing is saturated.
 	 */
 	@PutMapping("/volunteers/{volunteerId}")
 	public ResponseEntity<Volunteer> updateVolunteerById(@PathVariable Long volunteerId, @RequestBody @Valid VolunteerPartialDto updatedVol) {
@@ -230,7 +312,13 @@ public class UserController {
 
 		existingVol.setName(updatedVol.getName() != null ? updatedVol.getName() : existingVol.getName());
 		existingVol.setEmail(updatedVol.getEmail() != null ? updatedVol.getEmail() : existingVol.getEmail());
-		existingVol.setPassword(updatedVol.getPassword() != null ? updatedVol.getPassword() : existingVol.getPassword());
+		if (updatedVol.getPassword() != null) {
+			try {
+				existingVol.setPassword(passwordService.hash(updatedVol.getPassword()));
+			} catch (RejectedExecutionException e) {
+				return new ResponseEntity<>(HttpStatus.SERVICE_UNAVAILABLE);
+			}
+		}
 		existingVol.setPhoneNumber(updatedVol.getPhoneNumber() != null ? updatedVol.getPhoneNumber() : existingVol.getPhoneNumber());
 
 		userService.saveUser (existingVol);
@@ -241,22 +329,15 @@ public class UserController {
 	 * Delete a volunteer by their ID.
 	 *
 	 * @param volunteerId Volunteer ID.
-	 * @return HTTP 204 if deleted, HTTP 404 if not found.
+	 * @return HTTP 200 with the row counts removed if deleted, HTTP 404 if not found.
 	 */
 	@DeleteMapping("/volunteers/{volunteerId}")
-	public ResponseEntity<Void> deleteVolunteerById(@PathVariable Long volunteerId) {
+	public ResponseEntity<BulkDeleteResult> deleteVolunteerById(@PathVariable Long volunteerId) {
 		Optional<Volunteer> volunteerOpt = userService.findVolunteerById(volunteerId);
 		if (volunteerOpt.isEmpty()) {
 			return new ResponseEntity<>(HttpStatus.NOT_FOUND);
 		}
 
-		List<TaskSignup> signups = taskSignupService.getUserSignups(volunteerId);
-
-		for (TaskSignup signup : signups) {
-			taskSignupService.deleteById(signup.getSignupId());
-		}
-
-		userService.deleteUserById(volunteerId);
-		return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+		return new ResponseEntity<>(userService.deleteVolunteerWithSignups(volunteerId), HttpStatus.OK);
 	}
 }
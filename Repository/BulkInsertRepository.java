@@ -0,0 +1,133 @@
+package com.example.volunteer_platform.repository;
+
+import com.example.volunteer_platform.model.Skill;
+import com.example.volunteer_platform.model.Task;
+import com.example.volunteer_platform.model.Volunteer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Inserts new tasks and volunteers with JDBC batches, bypassing the persistence context.
+ * IDENTITY keys keep Hibernate from batching these inserts, so rows are sent as one batch and their keys are
+ * read back from the driver; with rewriteBatchedStatements the batch becomes a multi-row INSERT.
+ * Callers must run inside a transaction and evict the affected second-level cache entries after commit.
+ */
+@Repository
+public class BulkInsertRepository {
+
+    private static final String INSERT_TASK = "insert into tasks (title, description, location, latitude, longitude, "
+            + "event_date, cancellation_deadline, application_deadline, created_at, updated_at, capacity, status) "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_TASK_SKILL = "insert into task_skills (task_id, skill_id) values (?, ?)";
+    // Join table of Organization.tasks: Spring's implicit naming uses the owning table (user) plus the attribute
+    private static final String INSERT_ORGANIZATION_TASK = "insert into user_tasks (organization_id, tasks_id) values (?, ?)";
+    private static final String INSERT_VOLUNTEER = "insert into `user` (user_type, name, email, password, phone_number, "
+            + "gender, created_at, updated_at) values ('VOLUNTEER', ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_VOLUNTEER_SKILL = "insert into volunteer_skills (volunteer_id, skill_id) values (?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Insert new tasks, their skills and their links to the owning organization.
+     * Status and timestamps must already be set. The generated IDs are written back to the tasks.
+     *
+     * @param organizationId ID of the owning organization.
+     * @param tasks New tasks.
+     */
+    public void insertTasks(Long organizationId, List<Task> tasks) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_TASK, Statement.RETURN_GENERATED_KEYS)) {
+                for (Task task : tasks) {
+                    statement.setString(1, task.getTitle());
+                    statement.setString(2, task.getDescription());
+                    statement.setString(3, task.getLocation());
+                    statement.setObject(4, task.getLatitude(), Types.DOUBLE);
+                    statement.setObject(5, task.getLongitude(), Types.DOUBLE);
+                    statement.setDate(6, Date.valueOf(task.getEventDate()));
+                    statement.setDate(7, Date.valueOf(task.getCancellationDeadline()));
+                    statement.setDate(8, Date.valueOf(task.getApplicationDeadline()));
+                    statement.setTimestamp(9, Timestamp.valueOf(task.getCreatedAt()));
+                    statement.setTimestamp(10, Timestamp.valueOf(task.getUpdatedAt()));
+                    statement.setObject(11, task.getCapacity(), Types.INTEGER);
+                    statement.setString(12, task.getStatus().name());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                assignKeys(statement, tasks, Task::setId);
+            }
+            return null;
+        });
+
+        List<Object[]> links = new ArrayList<>(tasks.size());
+        tasks.forEach(task -> links.add(new Object[] {organizationId, task.getId()}));
+        jdbcTemplate.batchUpdate(INSERT_ORGANIZATION_TASK, links);
+        jdbcTemplate.batchUpdate(INSERT_TASK_SKILL, skillRows(tasks, Task::getId, Task::getSkills));
+    }
+
+    /**
+     * Insert new volunteers and their skills. Passwords must already be hashed and timestamps set.
+     * The generated IDs are written back to the volunteers.
+     *
+     * @param volunteers New volunteers.
+     */
+    public void insertVolunteers(List<Volunteer> volunteers) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_VOLUNTEER, Statement.RETURN_GENERATED_KEYS)) {
+                for (Volunteer volunteer : volunteers) {
+                    statement.setString(1, volunteer.getName());
+                    statement.setString(2, volunteer.getEmail());
+                    statement.setString(3, volunteer.getPassword());
+                    statement.setString(4, volunteer.getPhoneNumber());
+                    statement.setString(5, volunteer.getGender().name());
+                    statement.setTimestamp(6, Timestamp.valueOf(volunteer.getCreatedAt()));
+                    statement.setTimestamp(7, Timestamp.valueOf(volunteer.getUpdatedAt()));
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                assignKeys(statement, volunteers, Volunteer::setId);
+            }
+            return null;
+        });
+
+        jdbcTemplate.batchUpdate(INSERT_VOLUNTEER_SKILL, skillRows(volunteers, Volunteer::getId, Volunteer::getSkills));
+    }
+
+    private static <T> void assignKeys(PreparedStatement statement, List<T> rows, BiConsumer<T, Long> setId) throws SQLException {
+        try (ResultSet keys = statement.getGeneratedKeys()) {
+            for (T row : rows) {
+                if (!keys.next()) {
+                    throw new DataRetrievalFailureException("Expected " + rows.size() + " generated keys");
+                }
+                setId.accept(row, keys.getLong(1));
+            }
+        }
+    }
+
+    private static <T> List<Object[]> skillRows(List<T> owners, Function<T, Long> idOf,
+                                                Function<T, ? extends Iterable<Skill>> skillsOf) {
+        List<Object[]> rows = new ArrayList<>();
+        for (T owner : owners) {
+            Iterable<Skill> skills = skillsOf.apply(owner);
+            if (skills != null) {
+                skills.forEach(skill -> rows.add(new Object[] {idOf.apply(owner), skill.getId()}));
+            }
+        }
+        return rows;
+    }
+}
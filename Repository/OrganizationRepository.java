@@ -1,13 +1,38 @@
 package com.example.volunteer_platform.repository;
 
 import com.example.volunteer_platform.model.Organization;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * Repository interface for managing Organization entities.
  */
 @Repository
 public interface OrganizationRepository extends JpaRepository<Organization, Long> {
-    // Additional query methods can be defined here if needed
+
+    /**
+     * Find the next organizations after a keyset cursor, ordered by ID.
+     *
+     * @param id ID of the last organization already returned.
+     * @param pageable Page limit; only the page size is used.
+     * @return List of organizations with an ID greater than the cursor.
+     */
+    List<Organization> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    /**
+     * Delete an organization in a single statement, along with its organization-task link rows.
+     * The tasks themselves are left in place.
+     *
+     * @param organizationId Organization ID.
+     * @return Number of organizations deleted.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Organization o where o.id = :organizationId")
+    int deleteOrganizationById(@Param("organizationId") Long organizationId);
 }
@@ -0,0 +1,95 @@
+package com.example.volunteer_platform.repository;
+
+import com.example.volunteer_platform.model.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for managing OutboxEvent entities.
+ */
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Find the oldest pending events, in the order they were recorded. Parked events are skipped.
+     *
+     * @param pageable Batch size.
+     * @return Batch of events.
+     */
+    List<OutboxEvent> findByParkedAtIsNullOrderByIdAsc(Pageable pageable);
+
+    /**
+     * Count the events waiting to be delivered.
+     *
+     * @return Number of pending events.
+     */
+    long countByParkedAtIsNull();
+
+    /**
+     * Count the events the relay gave up on.
+     *
+     * @return Number of parked events.
+     */
+    long countByParkedAtIsNotNull();
+
+    /**
+     * Find when the oldest pending event was recorded.
+     *
+     * @return Creation time, or null if nothing is pending.
+     */
+    @Query("select min(e.createdAt) from OutboxEvent e where e.parkedAt is null")
+    LocalDateTime findOldestCreatedAt();
+
+    /**
+     * Remove delivered events in a single statement.
+     *
+     * @param ids Event IDs.
+     * @return Number of events removed.
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from OutboxEvent e where e.id in :ids")
+    int deleteDelivered(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Count a failed delivery attempt for a set of events.
+     *
+     * @param ids Event IDs.
+     * @return Number of events updated.
+     */
+    @Transactional
+    @Modifying
+    @Query("update OutboxEvent e set e.attempts = e.attempts + 1 where e.id in :ids")
+    int incrementAttempts(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Park the events of a set that have used up their delivery attempts, so they stop blocking the outbox.
+     *
+     * @param ids Event IDs.
+     * @param maxAttempts Attempts after which an event is parked.
+     * @param parkedAt Park timestamp.
+     * @return Number of events parked.
+     */
+    @Transactional
+    @Modifying
+    @Query("update OutboxEvent e set e.parkedAt = :parkedAt where e.id in :ids and e.attempts >= :maxAttempts and e.parkedAt is null")
+    int parkExhausted(@Param("ids") Collection<Long> ids, @Param("maxAttempts") int maxAttempts,
+                      @Param("parkedAt") LocalDateTime parkedAt);
+
+    /**
+     * Put every parked event back in the queue with a fresh attempt count.
+     *
+     * @return Number of events requeued.
+     */
+    @Transactional
+    @Modifying
+    @Query("update OutboxEvent e set e.parkedAt = null, e.attempts = 0 where e.parkedAt is not null")
+    int requeueParked();
+}
@@ -0,0 +1,71 @@
+package com.example.volunteer_platform.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.volunteer_platform.model.RatingSummary;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for managing RatingSummary entities.
+ */
+@Repository
+public interface RatingSummaryRepository extends JpaRepository<RatingSummary, Integer> {
+
+    /**
+     * Find the summaries of a set of rated users.
+     *
+     * @param ratedUserIds IDs of the rated users.
+     * @return Summaries of the users that have ratings.
+     */
+    List<RatingSummary> findByRatedUserIdIn(Collection<Integer> ratedUserIds);
+
+    /**
+     * Add one rating to a user's summary, creating the summary if needed, in a single atomic statement.
+     *
+     * @param ratedUserId ID of the rated user.
+     * @param score Rating score between 1 and 5.
+     * @param updatedDate Update timestamp.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "rating_summary")) // Otherwise every cache region is evicted
+    @Query(value = "insert into rating_summary (rated_user_id, rating_count, rating_sum, one_star_count, two_star_count, "
+            + "three_star_count, four_star_count, five_star_count, updated_date) "
+            + "values (:ratedUserId, 1, :score, case when :score = 1 then 1 else 0 end, case when :score = 2 then 1 else 0 end, "
+            + "case when :score = 3 then 1 else 0 end, case when :score = 4 then 1 else 0 end, case when :score = 5 then 1 else 0 end, :updatedDate) "
+            + "on duplicate key update rating_count = rating_count + 1, rating_sum = rating_sum + values(rating_sum), "
+            + "one_star_count = one_star_count + values(one_star_count), two_star_count = two_star_count + values(two_star_count), "
+            + "three_star_count = three_star_count + values(three_star_count), four_star_count = four_star_count + values(four_star_count), "
+            + "five_star_count = five_star_count + values(five_star_count), updated_date = values(updated_date)",
+            nativeQuery = true)
+    void addRating(@Param("ratedUserId") int ratedUserId, @Param("score") int score,
+                   @Param("updatedDate") LocalDateTime updatedDate);
+
+    /**
+     * Recompute every summary from the Ratings table with one INSERT ... SELECT, so no rows pass through the
+     * application. Existing summaries must already be deleted.
+     *
+     * @param updatedDate Update timestamp.
+     * @return Number of summaries written.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "rating_summary"))
+    @Query(value = "insert into rating_summary (rated_user_id, rating_count, rating_sum, one_star_count, two_star_count, "
+            + "three_star_count, four_star_count, five_star_count, updated_date) "
+            + "select rated_user_id, count(*), sum(rating_score), sum(case when rating_score = 1 then 1 else 0 end), "
+            + "sum(case when rating_score = 2 then 1 else 0 end), sum(case when rating_score = 3 then 1 else 0 end), "
+            + "sum(case when rating_score = 4 then 1 else 0 end), sum(case when rating_score = 5 then 1 else 0 end), :updatedDate "
+            + "from ratings group by rated_user_id",
+            nativeQuery = true)
+    int rebuildFromRatings(@Param("updatedDate") LocalDateTime updatedDate);
+}
@@ -1,8 +1,13 @@
 package com.example.volunteer_platform.repository;
 
 import com.example.volunteer_platform.model.Skill;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -16,5 +21,14 @@ public interface SkillRepository extends JpaRepository<Skill, Long> {
      * @param name Name of the skill.
      * @return Optional containing the skill if found.
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Skill> findByName(String name);
+
+    /**
+     * Find all skills with one of the given names.
+     *
+     * @param names Names of the skills.
+     * @return List of the skills that exist.
+     */
+    List<Skill> findByNameIn(Collection<String> names);
 }
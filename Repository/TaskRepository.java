@@ -1,17 +1,45 @@
 package com.example.volunteer_platform.repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+
+import com.example.volunteer_platform.dto.SkillLinkView;
+import com.example.volunteer_platform.dto.TaskDateView;
+import com.example.volunteer_platform.dto.TaskGeoView;
+import com.example.volunteer_platform.dto.TaskSummaryDto;
+import com.example.volunteer_platform.enums.TaskStatus;
 import com.example.volunteer_platform.model.Task;
 
 /**
  * Repository interface for managing Task entities.
  */
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskRepositoryCustom {
+
+    /**
+     * Find all tasks together with their skills in one query.
+     *
+     * @return List of all tasks.
+     */
+    @Override
+    @EntityGraph(attributePaths = "skills")
+    List<Task> findAll();
 
     /**
      * Find tasks by title containing a specific string.
@@ -36,4 +64,199 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      * @return List of tasks matching the location criteria.
      */
     List<Task> findByLocationContaining(String location);
+
+    /**
+     * Find the next tasks after a keyset cursor, ordered by ID.
+     *
+     * @param id ID of the last task already returned.
+     * @param pageable Page limit; only the page size is used.
+     * @return List of tasks with an ID greater than the cursor.
+     */
+    List<Task> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    /**
+     * Find the next tasks with a given status after a keyset cursor, ordered by ID.
+     *
+     * @param status Task status.
+     * @param id ID of the last task already returned.
+     * @param pageable Page limit; only the page size is used.
+     * @return List of tasks with the status and an ID greater than the cursor.
+     */
+    List<Task> findByStatusAndIdGreaterThanOrderByIdAsc(TaskStatus status, Long id, Pageable pageable);
+
+    /**
+     * Find tasks with an event date in a range, ordered by event date and ID.
+     *
+     * @param from First event date, inclusive.
+     * @param to Last event date, inclusive.
+     * @param pageable Page limit; only the page size is used.
+     * @return List of tasks in the range.
+     */
+    List<Task> findByEventDateBetweenOrderByEventDateAscIdAsc(LocalDate from, LocalDate to, Pageable pageable);
+
+    /**
+     * Find tasks with a given status and an event date in a range, ordered by event date and ID.
+     *
+     * @param status Task status.
+     * @param from First event date, inclusive.
+     * @param to Last event date, inclusive.
+     * @param pageable Page limit; only the page size is used.
+     * @return List of tasks with the status in the range.
+     */
+    List<Task> findByStatusAndEventDateBetweenOrderByEventDateAscIdAsc(TaskStatus status, LocalDate from, LocalDate to,
+                                                                      Pageable pageable);
+
+    /**
+     * Find the IDs and event dates of tasks with a given status and an event date in a range.
+     *
+     * @param status Task status.
+     * @param from First event date, inclusive.
+     * @param to Last event date, inclusive.
+     * @return List of task IDs with their event dates.
+     */
+    @Query("select t.id as id, t.eventDate as eventDate from Task t "
+            + "where t.status = :status and t.eventDate between :from and :to")
+    List<TaskDateView> findEventDatesByStatusBetween(@Param("status") TaskStatus status,
+                                                     @Param("from") LocalDate from,
+                                                     @Param("to") LocalDate to);
+
+    /**
+     * Find the IDs of tasks in one of the given statuses whose application deadline is before a date.
+     *
+     * @param statuses Task statuses.
+     * @param date Tasks with an application deadline before this date are returned.
+     * @param id ID of the last task already returned.
+     * @param pageable Page limit; only the page size is used.
+     * @return List of task IDs ordered by ID.
+     */
+    @Query("select t.id from Task t where t.status in :statuses and t.applicationDeadline < :date and t.id > :id order by t.id")
+    List<Long> findIdsWithApplicationDeadlineBefore(@Param("statuses") Collection<TaskStatus> statuses,
+                                                    @Param("date") LocalDate date,
+                                                    @Param("id") Long id,
+                                                    Pageable pageable);
+
+    /**
+     * Find the distinct application deadlines on or after a date of tasks in one of the given statuses.
+     *
+     * @param statuses Task statuses.
+     * @param date Earliest deadline to return.
+     * @return List of application deadlines.
+     */
+    @Query("select distinct t.applicationDeadline from Task t where t.status in :statuses and t.applicationDeadline >= :date")
+    List<LocalDate> findApplicationDeadlinesFrom(@Param("statuses") Collection<TaskStatus> statuses,
+                                                 @Param("date") LocalDate date);
+
+    /**
+     * Change the status of a set of tasks in a single statement, skipping tasks not in one of the expected statuses.
+     *
+     * @param taskIds Task IDs.
+     * @param expected Statuses the tasks must currently have.
+     * @param status New status.
+     * @param updatedAt Update timestamp.
+     * @return Number of tasks changed.
+     */
+    @Transactional
+    @Modifying
+    @Query("update Task t set t.status = :status, t.updatedAt = :updatedAt where t.id in :taskIds and t.status in :expected")
+    int updateStatusIn(@Param("taskIds") Collection<Long> taskIds, @Param("expected") Collection<TaskStatus> expected,
+                       @Param("status") TaskStatus status, @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Read the current status of a task without loading it, e.g. before a conditional status change.
+     *
+     * @param taskId Task ID.
+     * @return Status of the task, or null if it does not exist.
+     */
+    @Query("select t.status from Task t where t.id = :taskId")
+    TaskStatus findStatusById(@Param("taskId") Long taskId);
+
+    /**
+     * Change the status of a task only if it still has the expected status.
+     * Only one concurrent caller can win a given transition.
+     *
+     * @param taskId Task ID.
+     * @param expected Status the task must currently have.
+     * @param status New status.
+     * @param updatedAt Update timestamp.
+     * @return 1 if the status was changed, 0 otherwise.
+     */
+    @Transactional
+    @Modifying
+    @Query("update Task t set t.status = :status, t.updatedAt = :updatedAt where t.id = :taskId and t.status = :expected")
+    int updateStatusIfCurrent(@Param("taskId") Long taskId, @Param("expected") TaskStatus expected,
+                              @Param("status") TaskStatus status, @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Stream the task_skills rows of all tasks with a given status.
+     * Must be called inside a transaction and the stream must be closed.
+     *
+     * @param status Task status.
+     * @return Stream of task ID and skill ID pairs.
+     */
+    @Query("select t.id as ownerId, s.id as skillId from Task t join t.skills s where t.status = :status")
+    Stream<SkillLinkView> streamSkillLinksByStatus(@Param("status") TaskStatus status);
+
+    /**
+     * Stream the coordinates of all tasks with a given status that have them.
+     * Must be called inside a transaction and the stream must be closed.
+     *
+     * @param status Task status.
+     * @return Stream of task coordinates and event dates.
+     */
+    @Query("select t.id as id, t.latitude as latitude, t.longitude as longitude, t.eventDate as eventDate from Task t "
+            + "where t.status = :status and t.latitude is not null and t.longitude is not null")
+    Stream<TaskGeoView> streamGeoPointsByStatus(@Param("status") TaskStatus status);
+
+    /**
+     * Find the IDs of all tasks owned by an organization.
+     *
+     * @param organizationId Organization ID.
+     * @return List of task IDs.
+     */
+    @Query("select t.id from Organization o join o.tasks t where o.id = :organizationId")
+    List<Long> findIdsByOrganizationId(@Param("organizationId") Long organizationId);
+
+    /**
+     * Find the ID of the organization owning a task.
+     *
+     * @param taskId Task ID.
+     * @return List with the organization ID, or empty if the task has no owner.
+     */
+    @Query("select o.id from Organization o join o.tasks t where t.id = :taskId")
+    List<Long> findOrganizationIdsByTaskId(@Param("taskId") Long taskId);
+
+    /**
+     * Find summaries of all tasks owned by an organization, without loading the organization or task skills.
+     *
+     * @param organizationId Organization ID.
+     * @return List of task summaries ordered by ID.
+     */
+    @Query("select new com.example.volunteer_platform.dto.TaskSummaryDto(t.id, t.title, t.location, t.eventDate, "
+            + "t.applicationDeadline, t.cancellationDeadline, t.status, t.capacity) "
+            + "from Organization o join o.tasks t where o.id = :organizationId order by t.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<TaskSummaryDto> findSummariesByOrganizationId(@Param("organizationId") Long organizationId);
+
+    /**
+     * Remove the organization links of a set of tasks in a single statement.
+     * The join table of Organization.tasks is named by Spring's implicit naming strategy after the user table.
+     *
+     * @param taskIds Task IDs.
+     * @return Number of links removed.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "delete from user_tasks where tasks_id in :taskIds", nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_tasks"))
+    int unlinkFromOrganizations(@Param("taskIds") Collection<Long> taskIds);
+
+    /**
+     * Delete a set of tasks in a single statement, along with their task_skills rows.
+     * Signups and organization links must already be removed.
+     *
+     * @param taskIds Task IDs.
+     * @return Number of tasks deleted.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Task t where t.id in :taskIds")
+    int deleteByIdIn(@Param("taskIds") Collection<Long> taskIds);
 }
@@ -0,0 +1,32 @@
+package com.example.volunteer_platform.repository;
+
+import com.example.volunteer_platform.enums.TaskStatus;
+import com.example.volunteer_platform.model.Task;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Custom query methods for Task entities that Spring Data cannot derive.
+ */
+public interface TaskRepositoryCustom {
+
+    /**
+     * Find the next tasks after a keyset cursor, selecting only the given columns.
+     *
+     * @param fields Task attribute names to select; must be selectable.
+     * @param status Only return tasks with this status, or null for all tasks.
+     * @param id ID of the last task already returned.
+     * @param limit Maximum number of rows.
+     * @return Rows as maps from attribute name to value, ordered by ID.
+     */
+    List<Map<String, Object>> findFieldsByIdGreaterThan(List<String> fields, TaskStatus status, Long id, int limit);
+
+    /**
+     * Load tasks by ID, taking them from the second-level cache where possible and querying only the rest.
+     *
+     * @param ids Task IDs.
+     * @return Tasks in the order of the given IDs, skipping IDs that do not exist.
+     */
+    List<Task> findAllByIdInOrder(List<Long> ids);
+}
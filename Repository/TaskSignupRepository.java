@@ -1,23 +1,51 @@
 package com.example.volunteer_platform.repository;
 
+import com.example.volunteer_platform.dto.ReminderView;
+import com.example.volunteer_platform.dto.SignupCountView;
+import com.example.volunteer_platform.dto.SignupHistoryDto;
+import com.example.volunteer_platform.dto.TaskSignupViewDto;
+import com.example.volunteer_platform.enums.TaskStatus;
 import com.example.volunteer_platform.model.TaskSignup;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for managing TaskSignup entities.
  */
 public interface TaskSignupRepository extends JpaRepository<TaskSignup, Long> {
 
+    /**
+     * Find all signups together with their task and volunteer in one query.
+     *
+     * @return List of all task signups.
+     */
+    @Override
+    @EntityGraph(attributePaths = {"task", "volunteer"})
+    List<TaskSignup> findAll();
+
     /**
      * Find signups by volunteer ID.
      *
      * @param volunteerId Volunteer ID.
      * @return List of task signups for the specified volunteer.
      */
+    @EntityGraph(attributePaths = {"task", "volunteer"})
     List<TaskSignup> findByVolunteerId(Long volunteerId);
 
     /**
@@ -26,8 +54,82 @@ public interface TaskSignupRepository extends JpaRepository<TaskSignup, Long> {
      * @param taskId Task ID.
      * @return List of task signups for the specified task.
      */
+    @EntityGraph(attributePaths = {"task", "volunteer"})
     List<TaskSignup> findByTaskId(Long taskId);
 
+    /**
+     * Find slim views of the signups of a volunteer.
+     *
+     * @param volunteerId Volunteer ID.
+     * @return List of signup views ordered by signup ID.
+     */
+    @Query("select new com.example.volunteer_platform.dto.TaskSignupViewDto(s.signupId, s.signupDate, s.reminderSent, "
+            + "t.id, t.title, t.eventDate, v.id, v.name) "
+            + "from TaskSignup s join s.task t join s.volunteer v where v.id = :volunteerId order by s.signupId")
+    List<TaskSignupViewDto> findViewsByVolunteerId(@Param("volunteerId") Long volunteerId);
+
+    /**
+     * Find the newest signups of a volunteer before a keyset cursor, newest first.
+     * Served by idx_task_signup_user_date; only the tasks on the page are read.
+     *
+     * @param volunteerId Volunteer ID.
+     * @param before Signup date of the last row already returned.
+     * @param beforeId Signup ID of the last row already returned, breaking ties on the signup date.
+     * @param pageable Page limit; only the page size is used.
+     * @return List of history rows ordered by signup date and ID, descending.
+     */
+    @Query("select new com.example.volunteer_platform.dto.SignupHistoryDto(s.signupId, s.signupDate, s.reminderSent, "
+            + "t.id, t.title, t.location, t.eventDate, t.status) "
+            + "from TaskSignup s join s.task t where s.volunteer.id = :volunteerId "
+            + "and (s.signupDate < :before or (s.signupDate = :before and s.signupId < :beforeId)) "
+            + "order by s.signupDate desc, s.signupId desc")
+    List<SignupHistoryDto> findHistoryPage(@Param("volunteerId") Long volunteerId,
+                                           @Param("before") LocalDateTime before,
+                                           @Param("beforeId") Long beforeId,
+                                           Pageable pageable);
+
+    /**
+     * Stream the whole signup history of a volunteer, newest first, without buffering the result set.
+     * Must be called inside a transaction and the stream must be closed.
+     *
+     * @param volunteerId Volunteer ID.
+     * @return Stream of history rows ordered by signup date and ID, descending.
+     */
+    @Query("select new com.example.volunteer_platform.dto.SignupHistoryDto(s.signupId, s.signupDate, s.reminderSent, "
+            + "t.id, t.title, t.location, t.eventDate, t.status) "
+            + "from TaskSignup s join s.task t where s.volunteer.id = :volunteerId "
+            + "order by s.signupDate desc, s.signupId desc")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE)) // MySQL row-by-row streaming
+    Stream<SignupHistoryDto> streamHistory(@Param("volunteerId") Long volunteerId);
+
+    /**
+     * Find slim views of the signups for a task.
+     *
+     * @param taskId Task ID.
+     * @return List of signup views ordered by signup ID.
+     */
+    @Query("select new com.example.volunteer_platform.dto.TaskSignupViewDto(s.signupId, s.signupDate, s.reminderSent, "
+            + "t.id, t.title, t.eventDate, v.id, v.name) "
+            + "from TaskSignup s join s.task t join s.volunteer v where t.id = :taskId order by s.signupId")
+    List<TaskSignupViewDto> findViewsByTaskId(@Param("taskId") Long taskId);
+
+    /**
+     * Count the signups of a task.
+     *
+     * @param taskId Task ID.
+     * @return Number of signups for the task.
+     */
+    long countByTaskId(Long taskId);
+
+    /**
+     * Find the IDs of the tasks a volunteer signed up for.
+     *
+     * @param volunteerId Volunteer ID.
+     * @return List of task IDs.
+     */
+    @Query("select s.task.id from TaskSignup s where s.volunteer.id = :volunteerId")
+    List<Long> findTaskIdsByVolunteerId(@Param("volunteerId") Long volunteerId);
+
     /**
      * Find signups for tasks within a specific time range.
      *
@@ -45,4 +147,109 @@ public interface TaskSignupRepository extends JpaRepository<TaskSignup, Long> {
      * @return Optional containing the task signup if found.
      */
     Optional<TaskSignup> findByTaskIdAndVolunteerId(Long taskId, Long volunteerId);
+
+    /**
+     * Find the next signups after a keyset cursor, ordered by signup ID.
+     *
+     * @param signupId ID of the last signup already returned.
+     * @param pageable Page limit; only the page size is used.
+     * @return List of task signups with an ID greater than the cursor.
+     */
+    @EntityGraph(attributePaths = {"task", "volunteer"})
+    List<TaskSignup> findBySignupIdGreaterThanOrderBySignupIdAsc(Long signupId, Pageable pageable);
+
+    /**
+     * Find the next signups without a sent reminder for tasks held on a given day, after a keyset cursor.
+     *
+     * @param eventDate Event date of the tasks.
+     * @param statuses Task statuses that still need reminders.
+     * @param signupId ID of the last signup already returned.
+     * @param pageable Page limit; only the page size is used.
+     * @return List of reminders ordered by signup ID.
+     */
+    @Query("select new com.example.volunteer_platform.dto.ReminderView(s.signupId, t.id, t.title, t.location, t.eventDate, "
+            + "v.id, v.name, v.email) "
+            + "from TaskSignup s join s.task t join s.volunteer v "
+            + "where t.eventDate = :eventDate and t.status in :statuses and s.reminderSent = false and s.signupId > :signupId "
+            + "order by s.signupId")
+    List<ReminderView> findPendingReminders(@Param("eventDate") LocalDate eventDate,
+                                            @Param("statuses") Collection<TaskStatus> statuses,
+                                            @Param("signupId") Long signupId,
+                                            Pageable pageable);
+
+    /**
+     * Count the signups of every task that has any.
+     *
+     * @return Signup counts keyed by task ID.
+     */
+    @Query("select s.task.id as ownerId, count(s) as signups from TaskSignup s group by s.task.id")
+    List<SignupCountView> countGroupByTask();
+
+    /**
+     * Count the signups of a set of tasks. Tasks without signups are omitted.
+     *
+     * @param taskIds Task IDs.
+     * @return Signup counts keyed by task ID.
+     */
+    @Query("select s.task.id as ownerId, count(s) as signups from TaskSignup s where s.task.id in :taskIds group by s.task.id")
+    List<SignupCountView> countByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
+
+    /**
+     * Count the signups for the tasks of every organization that has any.
+     *
+     * @return Signup counts keyed by organization ID.
+     */
+    @Query("select o.id as ownerId, count(s) as signups from Organization o join o.tasks t join TaskSignup s on s.task = t "
+            + "group by o.id")
+    List<SignupCountView> countGroupByOrganization();
+
+    /**
+     * Count the signups for the tasks of an organization.
+     *
+     * @param organizationId Organization ID.
+     * @return Number of signups.
+     */
+    @Query("select count(s) from Organization o join o.tasks t join TaskSignup s on s.task = t where o.id = :organizationId")
+    long countByOrganizationId(@Param("organizationId") Long organizationId);
+
+    /**
+     * Mark the reminders of a set of signups as sent in a single statement.
+     *
+     * @param signupIds Signup IDs.
+     * @return Number of signups updated.
+     */
+    @Transactional
+    @Modifying
+    @Query("update TaskSignup s set s.reminderSent = true where s.signupId in :signupIds and s.reminderSent = false")
+    int markRemindersSent(@Param("signupIds") Collection<Long> signupIds);
+
+    /**
+     * Delete all signups for a set of tasks in a single statement.
+     *
+     * @param taskIds Task IDs.
+     * @return Number of signups deleted.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("delete from TaskSignup s where s.task.id in :taskIds")
+    int deleteByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
+
+    /**
+     * Delete one signup in a single statement, reporting whether it still existed.
+     *
+     * @param signupId Task signup ID.
+     * @return 1 if the signup was deleted, 0 if it was already gone.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("delete from TaskSignup s where s.signupId = :signupId")
+    int deleteBySignupId(@Param("signupId") Long signupId);
+
+    /**
+     * Delete all signups of a volunteer in a single statement.
+     *
+     * @param volunteerId Volunteer ID.
+     * @return Number of signups deleted.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("delete from TaskSignup s where s.volunteer.id = :volunteerId")
+    int deleteByVolunteerId(@Param("volunteerId") Long volunteerId);
 }
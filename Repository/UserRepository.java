@@ -1,5 +1,8 @@
 package com.example.volunteer_platform.repository;
 
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -18,4 +21,13 @@ public interface UserRepository extends JpaRepository<User, Long> {
 	 * @return User object if found.
 	 */
 	User findByEmail(String email);
+
+	/**
+	 * Find the next users after a keyset cursor, ordered by ID.
+	 *
+	 * @param id ID of the last user already returned.
+	 * @param pageable Page limit; only the page size is used.
+	 * @return List of users with an ID greater than the cursor.
+	 */
+	List<User> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
 }
@@ -1,13 +1,58 @@
 package com.example.volunteer_platform.repository;
 
+import com.example.volunteer_platform.dto.SkillLinkView;
 import com.example.volunteer_platform.model.Volunteer;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.stream.Stream;
+
 /**
  * Repository interface for managing Volunteer entities.
  */
 @Repository
 public interface VolunteerRepository extends JpaRepository<Volunteer, Long> {
-    // Additional query methods can be defined here if needed
+
+    /**
+     * Find all volunteers together with their skills in one query.
+     *
+     * @return List of all volunteers.
+     */
+    @Override
+    @EntityGraph(attributePaths = "skills")
+    List<Volunteer> findAll();
+
+    /**
+     * Find the next volunteers after a keyset cursor, ordered by ID.
+     *
+     * @param id ID of the last volunteer already returned.
+     * @param pageable Page limit; only the page size is used.
+     * @return List of volunteers with an ID greater than the cursor.
+     */
+    List<Volunteer> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    /**
+     * Stream the volunteer_skills rows of all volunteers.
+     * Must be called inside a transaction and the stream must be closed.
+     *
+     * @return Stream of volunteer ID and skill ID pairs.
+     */
+    @Query("select v.id as ownerId, s.id as skillId from Volunteer v join v.skills s")
+    Stream<SkillLinkView> streamSkillLinks();
+
+    /**
+     * Delete a volunteer in a single statement, along with their volunteer-skill link rows.
+     *
+     * @param volunteerId Volunteer ID.
+     * @return Number of volunteers deleted.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Volunteer v where v.id = :volunteerId")
+    int deleteVolunteerById(@Param("volunteerId") Long volunteerId);
 }
@@ -0,0 +1,63 @@
+package com.example.volunteer_platform.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs independent blocking calls in parallel while capping how many of them use the database at once.
+ * The cap should stay below the connection pool size so request threads can still get connections.
+ * Each call runs outside the request's persistence context and must not return lazy entities.
+ */
+@Component
+public class BoundedFanOut {
+
+    @Autowired
+    @Qualifier("fanOutExecutor")
+    private ExecutorService executor;
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMillis;
+
+    public BoundedFanOut(@Value("${fanout.max-concurrency:5}") int maxConcurrency,
+                         @Value("${fanout.acquire-timeout-ms:2000}") long acquireTimeoutMillis) {
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+    }
+
+    /**
+     * Start a call on the fan-out executor once a permit is free.
+     *
+     * @param call Blocking call.
+     * @return Future with the call's result. Fails with RejectedExecutionException if no permit frees up in time.
+     */
+    public <T> CompletableFuture<T> supply(Supplier<T> call) {
+        return CompletableFuture.supplyAsync(() -> {
+            acquire();
+            try {
+                return call.get();
+            } finally {
+                permits.release();
+            }
+        }, executor);
+    }
+
+    private void acquire() {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new RejectedExecutionException("No fan-out permit available within " + acquireTimeoutMillis + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for a fan-out permit", e);
+        }
+    }
+}
@@ -0,0 +1,477 @@
+package com.example.volunteer_platform.service;
+
+import com.example.volunteer_platform.dto.ImportReport;
+import com.example.volunteer_platform.dto.SkillAssignmentRow;
+import com.example.volunteer_platform.dto.TaskImportRow;
+import com.example.volunteer_platform.dto.VolunteerImportRow;
+import com.example.volunteer_platform.enums.TaskStatus;
+import com.example.volunteer_platform.model.Organization;
+import com.example.volunteer_platform.model.Skill;
+import com.example.volunteer_platform.model.Task;
+import com.example.volunteer_platform.model.Volunteer;
+import com.example.volunteer_platform.repository.BulkInsertRepository;
+import com.example.volunteer_platform.repository.OrganizationRepository;
+import com.example.volunteer_platform.repository.TaskRepository;
+import com.example.volunteer_platform.repository.VolunteerRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * BulkImportService loads tasks, volunteers and skill assignments from NDJSON or CSV uploads.
+ * The input is read line by line and written in batches, each batch in its own transaction.
+ * Rows that fail validation or cannot be written are reported and the rest of the load continues.
+ */
+@Service
+public class BulkImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkImportService.class);
+
+    public static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private VolunteerRepository volunteerRepository;
+
+    @Autowired
+    private BulkInsertRepository bulkInsertRepository;
+
+    @Autowired
+    private SkillService skillService;
+
+    @Autowired
+    private PasswordService passwordService;
+
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+
+    @Autowired
+    private SkillMatchingService skillMatchingService;
+
+    @Autowired
+    private TaskLifecycleService taskLifecycleService;
+
+    @Autowired
+    private TaskGeoIndex taskGeoIndex;
+
+    @Autowired
+    private TaskCalendarIndex taskCalendarIndex;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Import tasks for an organization.
+     *
+     * @param organizationId Organization ID.
+     * @param input Uploaded rows.
+     * @param csv True for CSV with a header line, false for NDJSON.
+     * @return Import report.
+     * @throws IOException If the upload cannot be read.
+     */
+    public ImportReport importTasks(Long organizationId, InputStream input, boolean csv) throws IOException {
+        return importRows(input, csv, TaskImportRow.class, this::checkTaskDates, TaskImportRow::getSkills, (rows, skills) -> {
+            if (!organizationRepository.existsById(organizationId)) {
+                throw new IllegalArgumentException("Organization " + organizationId + " not found");
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            List<Task> tasks = new ArrayList<>(rows.size());
+            for (TaskImportRow row : rows) {
+                Task task = new Task();
+                task.setTitle(row.getTitle());
+                task.setDescription(row.getDescription());
+                task.setLocation(row.getLocation());
+                task.setLatitude(row.getLatitude());
+                task.setLongitude(row.getLongitude());
+                task.setEventDate(row.getEventDate());
+                task.setCancellationDeadline(row.getCancellationDeadline());
+                task.setApplicationDeadline(row.getApplicationDeadline());
+                task.setCapacity(row.getCapacity());
+                task.setSkills(resolve(row.getSkills(), skills));
+                task.setStatus(TaskStatus.AVAILABLE);
+                task.setCreatedAt(now);
+                task.setUpdatedAt(now);
+                tasks.add(task);
+            }
+            // Tasks, skills and organization links go in as JDBC batches; loading Organization.tasks to append
+            // to it would make Hibernate rewrite every join row of the organization
+            bulkInsertRepository.insertTasks(organizationId, tasks);
+            return () -> {
+                evictOrganizationTasks(organizationId);
+                tasks.forEach(task -> {
+                    taskSearchIndex.index(task);
+                    skillMatchingService.updateTask(task);
+                    taskGeoIndex.update(task);
+                    taskCalendarIndex.update(task);
+                    taskLifecycleService.register(task);
+                });
+            };
+        });
+    }
+
+    /**
+     * Import volunteers.
+     *
+     * @param input Uploaded rows.
+     * @param csv True for CSV with a header line, false for NDJSON.
+     * @return Import report.
+     * @throws IOException If the upload cannot be read.
+     */
+    public ImportReport importVolunteers(InputStream input, boolean csv) throws IOException {
+        return importRows(input, csv, VolunteerImportRow.class, row -> null, this::hashPasswords, VolunteerImportRow::getSkills, (rows, skills) -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Volunteer> volunteers = new ArrayList<>(rows.size());
+            for (VolunteerImportRow row : rows) {
+                Volunteer volunteer = new Volunteer();
+                volunteer.setName(row.getName());
+                volunteer.setEmail(row.getEmail());
+                volunteer.setPassword(row.getPassword());
+                volunteer.setPhoneNumber(row.getPhoneNumber());
+                volunteer.setGender(row.getGender());
+                volunteer.setSkills(resolve(row.getSkills(), skills));
+                volunteer.setCreatedAt(now);
+                volunteer.setUpdatedAt(now);
+                volunteers.add(volunteer);
+            }
+            bulkInsertRepository.insertVolunteers(volunteers);
+            return () -> volunteers.forEach(skillMatchingService::updateVolunteer);
+        });
+    }
+
+    /**
+     * Add skills to existing tasks and volunteers.
+     *
+     * @param input Uploaded rows.
+     * @param csv True for CSV with a header line, false for NDJSON.
+     * @return Import report.
+     * @throws IOException If the upload cannot be read.
+     */
+    public ImportReport importSkillAssignments(InputStream input, boolean csv) throws IOException {
+        return importRows(input, csv, SkillAssignmentRow.class, this::checkAssignmentTarget, SkillAssignmentRow::getSkills, (rows, skills) -> {
+            Map<Long, Task> tasks = new HashMap<>();
+            Map<Long, Volunteer> volunteers = new HashMap<>();
+            taskRepository.findAllById(ids(rows, SkillAssignmentRow::getTaskId)).forEach(task -> tasks.put(task.getId(), task));
+            volunteerRepository.findAllById(ids(rows, SkillAssignmentRow::getVolunteerId)).forEach(volunteer -> volunteers.put(volunteer.getId(), volunteer));
+
+            for (SkillAssignmentRow row : rows) {
+                if (row.getTaskId() != null) {
+                    Task task = tasks.get(row.getTaskId());
+                    if (task == null) {
+                        throw new IllegalArgumentException("Task " + row.getTaskId() + " not found");
+                    }
+                    task.getSkills().addAll(resolve(row.getSkills(), skills));
+                } else {
+                    Volunteer volunteer = volunteers.get(row.getVolunteerId());
+                    if (volunteer == null) {
+                        throw new IllegalArgumentException("Volunteer " + row.getVolunteerId() + " not found");
+                    }
+                    volunteer.getSkills().addAll(resolve(row.getSkills(), skills));
+                }
+            }
+            return () -> {
+                tasks.values().forEach(task -> {
+                    taskSearchIndex.index(task);
+                    skillMatchingService.updateTask(task);
+                });
+                volunteers.values().forEach(skillMatchingService::updateVolunteer);
+            };
+        });
+    }
+
+    /**
+     * Writes one batch of valid rows inside a transaction and returns the work to run after commit.
+     * Skills are resolved before the transaction starts, keyed by normalized name.
+     */
+    private interface BatchWriter<T> {
+        Runnable write(List<T> rows, Map<String, Skill> skills);
+    }
+
+    private <T> ImportReport importRows(InputStream input, boolean csv, Class<T> rowType, Function<T, String> check,
+                                        Function<T, List<String>> skillsOf, BatchWriter<T> writer) throws IOException {
+        return importRows(input, csv, rowType, check, rows -> { }, skillsOf, writer);
+    }
+
+    /**
+     * @param prepare Runs on each valid batch before its transaction, e.g. for CPU-heavy work that must not hold a connection.
+     */
+    private <T> ImportReport importRows(InputStream input, boolean csv, Class<T> rowType, Function<T, String> check,
+                                        Consumer<List<T>> prepare, Function<T, List<String>> skillsOf,
+                                        BatchWriter<T> writer) throws IOException {
+        ImportReport report = new ImportReport();
+        List<T> batch = new ArrayList<>(BATCH_SIZE);
+        List<Integer> batchLines = new ArrayList<>(BATCH_SIZE);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            List<String> header = null;
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (csv && header == null) {
+                    header = parseCsvLine(line);
+                    continue;
+                }
+                report.setProcessed(report.getProcessed() + 1);
+
+                T row;
+                try {
+                    row = csv ? fromCsv(header, line, rowType) : objectMapper.readValue(line, rowType);
+                } catch (JsonProcessingException | IllegalArgumentException e) {
+                    report.addError(lineNumber, "Malformed row: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+                    continue;
+                }
+                String error = validate(row, check);
+                if (error != null) {
+                    report.addError(lineNumber, error);
+                    continue;
+                }
+
+                batch.add(row);
+                batchLines.add(lineNumber);
+                if (batch.size() == BATCH_SIZE) {
+                    writeBatch(batch, batchLines, prepare, skillsOf, writer, report);
+                }
+            }
+        }
+        writeBatch(batch, batchLines, prepare, skillsOf, writer, report);
+        log.info("Imported {} of {} {} rows, {} failed", report.getImported(), report.getProcessed(),
+                rowType.getSimpleName(), report.getFailed());
+        return report;
+    }
+
+    /**
+     * Write a batch in one transaction. If the batch fails, retry its rows one by one so only the bad rows are rejected.
+     */
+    private <T> void writeBatch(List<T> batch, List<Integer> batchLines, Consumer<List<T>> prepare,
+                                Function<T, List<String>> skillsOf, BatchWriter<T> writer, ImportReport report) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            prepare.accept(batch);
+        } catch (RuntimeException e) {
+            // Rows must not be written half-prepared, e.g. with plaintext passwords
+            batchLines.forEach(line -> report.addError(line, NestedExceptionUtils.getMostSpecificCause(e).getMessage()));
+            batch.clear();
+            batchLines.clear();
+            return;
+        }
+        try {
+            // One skill lookup for the whole batch
+            Map<String, Skill> skills = skillService.findOrCreateAllByName(skillNames(batch, skillsOf));
+            runInTransaction(batch, skills, writer);
+            report.setImported(report.getImported() + batch.size());
+        } catch (RuntimeException batchFailure) {
+            for (int i = 0; i < batch.size(); i++) {
+                try {
+                    T row = batch.get(i);
+                    runInTransaction(List.of(row), skillService.findOrCreateAllByName(skillNames(List.of(row), skillsOf)), writer);
+                    report.setImported(report.getImported() + 1);
+                } catch (RuntimeException e) {
+                    report.addError(batchLines.get(i), NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+                }
+            }
+        }
+        batch.clear();
+        batchLines.clear();
+    }
+
+    private <T> void runInTransaction(List<T> rows, Map<String, Skill> skills, BatchWriter<T> writer) {
+        Runnable afterCommit = transactionTemplate.execute(status -> {
+            Runnable indexing = writer.write(rows, skills);
+            // Keep the persistence context from growing across batches
+            entityManager.flush();
+            entityManager.clear();
+            return indexing;
+        });
+        if (afterCommit != null) {
+            afterCommit.run();
+        }
+    }
+
+    /**
+     * Drop the cached task list of an organization and the cached query results, which the JDBC inserts bypassed.
+     */
+    private void evictOrganizationTasks(Long organizationId) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        cache.evictCollectionData(Organization.class.getName() + ".tasks", organizationId);
+        cache.evictQueryRegions();
+    }
+
+    private <T> String validate(T row, Function<T, String> check) {
+        Set<ConstraintViolation<T>> violations = validator.validate(row);
+        if (!violations.isEmpty()) {
+            List<String> messages = new ArrayList<>();
+            violations.forEach(violation -> messages.add(violation.getPropertyPath() + ": " + violation.getMessage()));
+            messages.sort(null);
+            return String.join("; ", messages);
+        }
+        return check.apply(row);
+    }
+
+    private String checkTaskDates(TaskImportRow row) {
+        if (row.getApplicationDeadline().isBefore(LocalDate.now()) ||
+                row.getCancellationDeadline().isBefore(LocalDate.now())) {
+            return "Deadlines must not be in the past";
+        }
+        if (row.getApplicationDeadline().isAfter(row.getEventDate()) ||
+                row.getCancellationDeadline().isAfter(row.getEventDate())) {
+            return "Deadlines must not be after the event date";
+        }
+        return null;
+    }
+
+    private void hashPasswords(List<VolunteerImportRow> rows) {
+        List<String> rawPasswords = new ArrayList<>(rows.size());
+        rows.forEach(row -> rawPasswords.add(row.getPassword()));
+        List<String> hashes = passwordService.hashAll(rawPasswords);
+        for (int i = 0; i < rows.size(); i++) {
+            rows.get(i).setPassword(hashes.get(i));
+        }
+    }
+
+    private String checkAssignmentTarget(SkillAssignmentRow row) {
+        if ((row.getTaskId() == null) == (row.getVolunteerId() == null)) {
+            return "Exactly one of taskId and volunteerId is required";
+        }
+        return null;
+    }
+
+    private static <T> Set<String> skillNames(List<T> rows, Function<T, List<String>> skillsOf) {
+        Set<String> names = new HashSet<>();
+        for (T row : rows) {
+            List<String> skills = skillsOf.apply(row);
+            if (skills != null) {
+                skills.stream().filter(name -> name != null && !name.isBlank()).forEach(names::add);
+            }
+        }
+        return names;
+    }
+
+    private static Set<Skill> resolve(List<String> names, Map<String, Skill> skills) {
+        Set<Skill> resolved = new HashSet<>();
+        if (names != null) {
+            names.stream()
+                    .filter(name -> name != null && !name.isBlank())
+                    .forEach(name -> resolved.add(skills.get(SkillService.normalize(name))));
+        }
+        return resolved;
+    }
+
+    private static <T> Set<Long> ids(Collection<T> rows, Function<T, Long> idOf) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (T row : rows) {
+            Long id = idOf.apply(row);
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Map a CSV line onto a row type by header name. List columns hold values separated by semicolons.
+     */
+    private <T> T fromCsv(List<String> header, String line, Class<T> rowType) {
+        List<String> values = parseCsvLine(line);
+        if (values.size() > header.size()) {
+            throw new IllegalArgumentException("Expected " + header.size() + " columns but found " + values.size());
+        }
+        Map<String, Object> fields = new HashMap<>();
+        for (int i = 0; i < values.size(); i++) {
+            String value = values.get(i).trim();
+            if (value.isEmpty()) {
+                continue;
+            }
+            String column = header.get(i).trim();
+            fields.put(column, column.equals("skills") ? Arrays.asList(value.split(";")) : value);
+        }
+        return objectMapper.convertValue(fields, rowType);
+    }
+
+    /**
+     * Split one CSV line into values. Quoted values may contain commas and doubled quotes, but not line breaks.
+     */
+    static List<String> parseCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted value");
+        }
+        values.add(value.toString());
+        return values;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.volunteer_platform.service;
+
+import com.example.volunteer_platform.dto.CacheRegionStatsDto;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * CacheStatisticsService reports per-region statistics of the Hibernate second-level and query caches.
+ * Counters are only collected when hibernate.generate_statistics is enabled.
+ */
+@Service
+public class CacheStatisticsService {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Get the statistics of every cache region.
+     *
+     * @return Region statistics ordered by region name.
+     */
+    public List<CacheRegionStatsDto> getRegionStats() {
+        Statistics statistics = statistics();
+        String[] regionNames = statistics.getSecondLevelCacheRegionNames();
+        Arrays.sort(regionNames);
+
+        List<CacheRegionStatsDto> regions = new ArrayList<>(regionNames.length);
+        for (String regionName : regionNames) {
+            CacheRegionStatistics region = statistics.getCacheRegionStatistics(regionName);
+            if (region != null) {
+                regions.add(new CacheRegionStatsDto(regionName, region.getHitCount(), region.getMissCount(),
+                        region.getPutCount(), region.getElementCountInMemory()));
+            }
+        }
+        return regions;
+    }
+
+    /**
+     * Reset all Hibernate statistics counters.
+     */
+    public void clearStats() {
+        statistics().clear();
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.volunteer_platform.service;
+
+import com.example.volunteer_platform.model.OutboxEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * OutboxSink that appends events to a local NDJSON file, one event per line, as a stand-in for a message queue.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.sink", havingValue = "file")
+public class FileOutboxSink implements OutboxSink {
+
+    private static final Logger log = LoggerFactory.getLogger(FileOutboxSink.class);
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${outbox.file.path:outbox.ndjson}")
+    private Path path;
+
+    @Override
+    public synchronized Collection<Long> publish(List<OutboxEvent> events) {
+        List<Long> published = new ArrayList<>(events.size());
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (OutboxEvent event : events) {
+                ObjectNode line = objectMapper.createObjectNode();
+                line.put("id", event.getId());
+                line.put("type", event.getEventType().name());
+                line.put("aggregateId", event.getAggregateId());
+                line.put("createdAt", event.getCreatedAt().toString());
+                line.set("payload", objectMapper.readTree(event.getPayload()));
+                writer.write(objectMapper.writeValueAsString(line));
+                writer.newLine();
+                published.add(event.getId());
+            }
+        } catch (IOException e) {
+            // Nothing is reported as published, so the whole batch is retried on the next run
+            log.warn("Could not write outbox events to {}", path, e);
+            return Collections.emptyList();
+        }
+        return published;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.volunteer_platform.service;
+
+import com.example.volunteer_platform.dto.ReminderView;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * ReminderSender that appends reminders to a local NDJSON file, one reminder per line.
+ */
+@Component
+@ConditionalOnProperty(name = "reminders.sender", havingValue = "file")
+public class FileReminderSender implements ReminderSender {
+
+    private static final Logger log = LoggerFactory.getLogger(FileReminderSender.class);
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${reminders.file.path:reminders.ndjson}")
+    private Path path;
+
+    @Override
+    public synchronized Collection<Long> send(List<ReminderView> reminders) {
+        List<Long> sent = new ArrayList<>(reminders.size());
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (ReminderView reminder : reminders) {
+                writer.write(objectMapper.writeValueAsString(reminder));
+                writer.newLine();
+                sent.add(reminder.getSignupId());
+            }
+        } catch (IOException e) {
+            // Nothing is reported as sent, so the whole batch is retried on the next run
+            log.warn("Could not write reminders to {}", path, e);
+            return Collections.emptyList();
+        }
+        return sent;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.volunteer_platform.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * JsonStreamingService writes whole tables as one JSON array while reading them, so a listing's memory use
+ * does not grow with the number of rows and the first rows reach the client before the last are read.
+ * Rows are read in keyset pages rather than over one open result set: MySQL cannot run the lazy loads of
+ * a row's collections while a streaming result set is open, and pages keep @BatchSize effective.
+ */
+@Service
+public class JsonStreamingService {
+
+    private static final int PAGE_SIZE = 100;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Write every row as a JSON array, in ID order. Each page is written and flushed before the next is read,
+     * and the persistence context is cleared between pages. The database connection is held until the end.
+     *
+     * @param pageLoader Repository keyset query: rows with an ID greater than the cursor, ordered by ID.
+     * @param idOf ID of a row, used as the cursor for the next page.
+     * @param out Response body.
+     * @param <T> Row type.
+     * @throws IOException If writing to the response fails.
+     */
+    @Transactional(readOnly = true)
+    public <T> void writeArray(BiFunction<Long, Pageable, List<T>> pageLoader, Function<T, Long> idOf, OutputStream out)
+            throws IOException {
+        entityManager.unwrap(Session.class).setCacheMode(CacheMode.GET); // Use the second-level cache, but do not fill it with the whole table
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        generator.writeStartArray();
+        long cursor = 0;
+        while (true) {
+            List<T> page = pageLoader.apply(cursor, PageRequest.of(0, PAGE_SIZE));
+            for (T row : page) {
+                writer.writeValue(generator, row);
+            }
+            generator.flush();
+            if (page.size() < PAGE_SIZE) {
+                break;
+            }
+            cursor = idOf.apply(page.get(page.size() - 1));
+            entityManager.clear();
+        }
+        generator.writeEndArray();
+        generator.close();
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.volunteer_platform.service;
+
+import com.example.volunteer_platform.model.OutboxEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * OutboxSink that writes each event to the application log. Used when no other sink is configured.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.sink", havingValue = "log", matchIfMissing = true)
+public class LoggingOutboxSink implements OutboxSink {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingOutboxSink.class);
+
+    @Override
+    public Collection<Long> publish(List<OutboxEvent> events) {
+        List<Long> published = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            log.info("Event {} {} for {}: {}", event.getId(), event.getEventType(), event.getAggregateId(), event.getPayload());
+            published.add(event.getId());
+        }
+        return published;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.volunteer_platform.service;
+
+import com.example.volunteer_platform.dto.ReminderView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * ReminderSender that writes each reminder to the application log. Used when no other sender is configured.
+ */
+@Component
+@ConditionalOnProperty(name = "reminders.sender", havingValue = "log", matchIfMissing = true)
+public class LoggingReminderSender implements ReminderSender {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingReminderSender.class);
+
+    @Override
+    public Collection<Long> send(List<ReminderView> reminders) {
+        List<Long> sent = new ArrayList<>(reminders.size());
+        for (ReminderView reminder : reminders) {
+            log.info("Reminder to {} <{}>: '{}' at {} on {}", reminder.getVolunteerName(), reminder.getVolunteerEmail(),
+                    reminder.getTaskTitle(), reminder.getTaskLocation(), reminder.getEventDate());
+            sent.add(reminder.getSignupId());
+        }
+        return sent;
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.volunteer_platform.service;
+
+import com.example.volunteer_platform.dto.OutboxStatsDto;
+import com.example.volunteer_platform.model.OutboxEvent;
+import com.example.volunteer_platform.repository.OutboxEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * OutboxRelay drains the outbox to the configured {@link OutboxSink} in batches, oldest event first.
+ * Events are deleted only after the sink reports them delivered, so delivery is at least once: a crash
+ * between delivery and deletion repeats that batch. A batch with undelivered events ends the run, and
+ * the remaining events are retried on the next one, which keeps the delivery order. When a batch delivers
+ * nothing, its oldest event is retried alone, so only an event that fails on its own counts an attempt;
+ * after outbox.max-attempts such an event is parked and the events behind it move on.
+ */
+@Service
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private OutboxSink outboxSink;
+
+    @Value("${outbox.batch-size:200}")
+    private int batchSize;
+
+    @Value("${outbox.max-attempts:20}")
+    private int maxAttempts;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong relayed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private volatile long lastRunRelayed;
+    private volatile long lastRunMaxLagMillis;
+    private volatile LocalDateTime lastRunAt;
+
+    /**
+     * Relay pending events on a schedule.
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay-interval-ms:1000}")
+    public void relayScheduled() {
+        relayPending();
+    }
+
+    /**
+     * Deliver every pending event. Returns immediately if a run is already in progress.
+     */
+    public void relayPending() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        long relayedThisRun = 0;
+        long maxLagMillis = 0;
+        try {
+            while (true) {
+                List<OutboxEvent> batch = outboxEventRepository.findByParkedAtIsNullOrderByIdAsc(PageRequest.of(0, batchSize));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                boolean full = batch.size() == batchSize;
+
+                Set<Long> delivered = publish(batch);
+                if (delivered.isEmpty() && batch.size() > 1) {
+                    batch = batch.subList(0, 1); // Tell a failing sink from an event it cannot take
+                    delivered = publish(batch);
+                }
+                if (!delivered.isEmpty()) {
+                    outboxEventRepository.deleteDelivered(delivered);
+                    relayed.addAndGet(delivered.size());
+                    relayedThisRun += delivered.size();
+                    LocalDateTime now = LocalDateTime.now();
+                    for (OutboxEvent event : batch) {
+                        if (delivered.contains(event.getId())) {
+                            maxLagMillis = Math.max(maxLagMillis, Duration.between(event.getCreatedAt(), now).toMillis());
+                        }
+                    }
+                }
+                if (delivered.size() < batch.size()) {
+                    Set<Long> published = delivered;
+                    List<Long> undelivered = batch.stream().map(OutboxEvent::getId).filter(id -> !published.contains(id)).toList();
+                    outboxEventRepository.incrementAttempts(undelivered);
+                    failed.addAndGet(undelivered.size());
+                    int parked = outboxEventRepository.parkExhausted(undelivered, maxAttempts, LocalDateTime.now());
+                    if (parked > 0) {
+                        log.warn("Parked {} outbox events after {} failed delivery attempts", parked, maxAttempts);
+                    }
+                    break;
+                }
+                if (!full) {
+                    break;
+                }
+            }
+        } finally {
+            lastRunRelayed = relayedThisRun;
+            lastRunMaxLagMillis = maxLagMillis;
+            lastRunAt = LocalDateTime.now();
+            running.set(false);
+        }
+        if (relayedThisRun > 0) {
+            log.debug("Relayed {} outbox events, max lag {} ms", relayedThisRun, maxLagMillis);
+        }
+    }
+
+    /**
+     * Put every parked event back in the queue, e.g. after fixing the consumer that rejected them.
+     *
+     * @return Number of events requeued.
+     */
+    public int requeueParked() {
+        int requeued = outboxEventRepository.requeueParked();
+        log.info("Requeued {} parked outbox events", requeued);
+        return requeued;
+    }
+
+    /**
+     * Get the outbox backlog and relay counters.
+     *
+     * @return Outbox statistics.
+     */
+    public OutboxStatsDto getStats() {
+        long pending = outboxEventRepository.countByParkedAtIsNull();
+        LocalDateTime oldest = pending > 0 ? outboxEventRepository.findOldestCreatedAt() : null;
+        long oldestAgeMillis = oldest != null ? Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis()) : 0;
+        return new OutboxStatsDto(pending, outboxEventRepository.countByParkedAtIsNotNull(), oldestAgeMillis, relayed.get(), failed.get(), lastRunRelayed,
+                lastRunMaxLagMillis, lastRunAt);
+    }
+
+    private Set<Long> publish(List<OutboxEvent> events) {
+        try {
+            return new HashSet<>(outboxSink.publish(events));
+        } catch (RuntimeException e) {
+            log.warn("Outbox sink failed for a batch of {} events", events.size(), e);
+            return Collections.emptySet();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.volunteer_platform.service;
+
+import com.example.volunteer_platform.enums.OutboxEventType;
+import com.example.volunteer_platform.model.OutboxEvent;
+import com.example.volunteer_platform.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * OutboxService records domain events in the outbox table. Events must be recorded inside the transaction
+ * that makes the change, so an event exists if and only if the change was committed.
+ * {@link OutboxRelay} delivers them afterwards.
+ */
+@Service
+public class OutboxService {
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Record an event in the caller's transaction.
+     *
+     * @param eventType Kind of event.
+     * @param aggregateId ID of the signup or rating the event is about.
+     * @param payload Event body, serialized as JSON.
+     * @throws org.springframework.transaction.IllegalTransactionStateException If no transaction is active.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(OutboxEventType eventType, Long aggregateId, Object payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not serialize " + eventType + " payload", e);
+        }
+        outboxEventRepository.save(OutboxEvent.builder()
+                .eventType(eventType)
+                .aggregateId(aggregateId)
+                .payload(json)
+                .build());
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.volunteer_platform.service;
+
+import com.example.volunteer_platform.model.OutboxEvent;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Delivers outbox events to their consumers. Select the implementation with the outbox.sink property.
+ * Delivery is at least once: an event can be delivered again after a crash, so consumers should
+ * deduplicate on the event ID.
+ */
+public interface OutboxSink {
+
+    /**
+     * Deliver a batch of events, in order.
+     *
+     * @param events Events to deliver.
+     * @return IDs of the events that were delivered; the rest are retried on the next run.
+     */
+    Collection<Long> publish(List<OutboxEvent> events);
+}
@@ -0,0 +1,140 @@
+package com.example.volunteer_platform.service;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * PBKDF2-HMAC-SHA256 password hashing with a per-password salt.
+ * Hashes are stored as {@code pbkdf2-sha256$<iterations>$<salt>$<hash>}, so the work factor can be raised
+ * without invalidating existing hashes. Stored values without the prefix are treated as legacy plaintext.
+ * Hashing is CPU-bound and deliberately slow; callers should run it through {@link PasswordService}.
+ */
+public class PasswordHasher {
+
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final String PREFIX = "pbkdf2-sha256$";
+    private static final int SALT_BYTES = 16;
+    private static final int HASH_BITS = 256;
+    private static final int CALIBRATION_ITERATIONS = 20_000;
+    private static final int REHASH_BELOW_PERCENT = 90; // Calibration noise between restarts must not rehash everyone
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final int iterations;
+
+    /**
+     * @param iterations PBKDF2 iterations for new hashes.
+     */
+    public PasswordHasher(int iterations) {
+        this.iterations = iterations;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Hash a password with a fresh salt.
+     *
+     * @param rawPassword Plaintext password.
+     * @return Encoded hash.
+     */
+    public String hash(String rawPassword) {
+        byte[] salt = new byte[SALT_BYTES];
+        RANDOM.nextBytes(salt);
+        byte[] hash = derive(rawPassword, salt, iterations);
+        Base64.Encoder encoder = Base64.getEncoder().withoutPadding();
+        return PREFIX + iterations + "$" + encoder.encodeToString(salt) + "$" + encoder.encodeToString(hash);
+    }
+
+    /**
+     * Check a password against a stored hash, or against a legacy plaintext value.
+     *
+     * @param rawPassword Plaintext password.
+     * @param stored Stored hash or legacy plaintext.
+     * @return True if the password matches.
+     */
+    public boolean matches(String rawPassword, String stored) {
+        if (rawPassword == null || stored == null) {
+            return false;
+        }
+        if (!isHashed(stored)) {
+            return MessageDigest.isEqual(rawPassword.getBytes(StandardCharsets.UTF_8), stored.getBytes(StandardCharsets.UTF_8));
+        }
+        String[] parts = stored.substring(PREFIX.length()).split("\\$");
+        if (parts.length != 3) {
+            return false;
+        }
+        try {
+            Base64.Decoder decoder = Base64.getDecoder();
+            byte[] expected = decoder.decode(parts[2]);
+            return MessageDigest.isEqual(expected, derive(rawPassword, decoder.decode(parts[1]), Integer.parseInt(parts[0])));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Check whether a stored value should be replaced by a new hash: it is plaintext or uses clearly fewer
+     * iterations, i.e. less than 90% of the current count.
+     *
+     * @param stored Stored hash or legacy plaintext.
+     * @return True if the password should be rehashed on the next successful login.
+     */
+    public boolean needsRehash(String stored) {
+        if (!isHashed(stored)) {
+            return true;
+        }
+        int end = stored.indexOf('$', PREFIX.length());
+        try {
+            return end < 0
+                    || Integer.parseInt(stored.substring(PREFIX.length(), end)) * 100L < (long) iterations * REHASH_BELOW_PERCENT;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    /**
+     * @param stored Stored password value.
+     * @return True if the value is a hash produced by this class.
+     */
+    public static boolean isHashed(String stored) {
+        return stored != null && stored.startsWith(PREFIX);
+    }
+
+    /**
+     * Find the iteration count at which one hash takes about the target time on this machine.
+     *
+     * @param targetMillis Target time per hash.
+     * @param minIterations Lower bound, so slow or throttled machines do not end up with a weak work factor.
+     * @return Iteration count, rounded to a thousand.
+     */
+    public static int calibrate(long targetMillis, int minIterations) {
+        byte[] salt = new byte[SALT_BYTES];
+        derive("calibration", salt, CALIBRATION_ITERATIONS); // Warm up the JIT and the provider
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            long start = System.nanoTime();
+            derive("calibration", salt, CALIBRATION_ITERATIONS);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        long iterations = CALIBRATION_ITERATIONS * (targetMillis * 1_000_000L) / Math.max(best, 1);
+        iterations = Math.min(iterations, Integer.MAX_VALUE - 1000L);
+        return Math.max(minIterations, (int) (iterations / 1000 * 1000));
+    }
+
+    private static byte[] derive(String rawPassword, byte[] salt, int iterations) {
+        PBEKeySpec spec = new PBEKeySpec(rawPassword.toCharArray(), salt, iterations, HASH_BITS);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + " is not available", e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.volunteer_platform.service;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * PasswordService hashes and verifies passwords on a dedicated, bounded thread pool, so slow hashing cannot
+ * take every core away from request handling. The work factor is calibrated at startup so one hash takes
+ * about passwords.hashing.target-ms on this machine. When the pool and its queue are full, calls fail
+ * fast with RejectedExecutionException instead of piling up.
+ */
+@Service
+public class PasswordService {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordService.class);
+
+    @Autowired
+    @Qualifier("passwordHashingExecutor")
+    private ExecutorService executor;
+
+    @Value("${passwords.hashing.target-ms:250}")
+    private long targetMillis;
+
+    @Value("${passwords.hashing.min-iterations:210000}")
+    private int minIterations;
+
+    @Value("${passwords.hashing.timeout-ms:5000}")
+    private long timeoutMillis;
+
+    private PasswordHasher hasher;
+    private String dummyHash; // Verified against when the user does not exist, so lookups take the same time
+
+    /**
+     * Pick the iteration count for new hashes.
+     */
+    @PostConstruct
+    public void calibrate() {
+        hasher = new PasswordHasher(PasswordHasher.calibrate(targetMillis, minIterations));
+        dummyHash = hasher.hash("dummy-password");
+        log.info("Password hashing calibrated to {} PBKDF2 iterations for a {} ms target", hasher.getIterations(), targetMillis);
+    }
+
+    /**
+     * Hash a password on the hashing pool.
+     *
+     * @param rawPassword Plaintext password.
+     * @return Encoded hash.
+     * @throws RejectedExecutionException If the pool is saturated or the hash does not finish in time.
+     */
+    public String hash(String rawPassword) {
+        return await(executor.submit(() -> hasher.hash(rawPassword)));
+    }
+
+    /**
+     * Hash several passwords on the hashing pool, one at a time. A bulk caller never holds more than one pool
+     * thread, and interactive hashes queue between its passwords instead of waiting for the whole batch.
+     *
+     * @param rawPasswords Plaintext passwords.
+     * @return Encoded hashes, in the same order.
+     * @throws RejectedExecutionException If the pool is saturated or a hash does not finish in time.
+     */
+    public List<String> hashAll(List<String> rawPasswords) {
+        List<String> hashes = new ArrayList<>(rawPasswords.size());
+        for (String rawPassword : rawPasswords) {
+            hashes.add(hash(rawPassword));
+        }
+        return hashes;
+    }
+
+    /**
+     * Check a password against a stored hash or legacy plaintext value on the hashing pool.
+     * A null stored value is checked against a dummy hash, so unknown users cost the same as known ones.
+     *
+     * @param rawPassword Plaintext password.
+     * @param stored Stored hash, legacy plaintext, or null if the user does not exist.
+     * @return True if the password matches.
+     * @throws RejectedExecutionException If the pool is saturated or the check does not finish in time.
+     */
+    public boolean matches(String rawPassword, String stored) {
+        if (stored == null) {
+            await(executor.submit(() -> hasher.matches(rawPassword, dummyHash)));
+            return false;
+        }
+        return await(executor.submit(() -> hasher.matches(rawPassword, stored)));
+    }
+
+    /**
+     * @param stored Stored hash or legacy plaintext.
+     * @return True if the value is plaintext or was hashed with a lower work factor.
+     */
+    public boolean needsRehash(String stored) {
+        return hasher.needsRehash(stored);
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new RejectedExecutionException("Password hashing did not finish within " + timeoutMillis + " ms");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+}
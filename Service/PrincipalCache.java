@@ -0,0 +1,101 @@
+package com.example.volunteer_platform.service;
+
+import com.example.volunteer_platform.dto.CacheStatsDto;
+import com.example.volunteer_platform.dto.UserPrincipal;
+import com.example.volunteer_platform.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Small LRU cache of authenticated users keyed by user ID, so token-authenticated requests do not look the
+ * user up in the database. Entries are dropped when the user is updated or deleted; a load that races with
+ * an invalidation is not cached.
+ */
+@Component
+public class PrincipalCache {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final Map<Long, UserPrincipal> principals; // Access-ordered; guarded by this
+    private long invalidations; // Guarded by this; a load started before an invalidation is not cached
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public PrincipalCache(@Value("${auth.principal-cache.size:10000}") int capacity) {
+        this.principals = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, UserPrincipal> eldest) {
+                if (size() > capacity) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Get the principal of a user, loading it on a cache miss.
+     *
+     * @param userId User ID.
+     * @return Optional containing the principal, or empty if the user no longer exists.
+     */
+    public Optional<UserPrincipal> get(Long userId) {
+        long invalidationsAtLoad;
+        synchronized (this) {
+            UserPrincipal principal = principals.get(userId);
+            if (principal != null) {
+                hits++;
+                return Optional.of(principal);
+            }
+            misses++;
+            invalidationsAtLoad = invalidations;
+        }
+        Optional<UserPrincipal> loaded = userRepository.findById(userId).map(UserPrincipal::from);
+        synchronized (this) {
+            if (loaded.isPresent() && invalidations == invalidationsAtLoad) {
+                principals.put(userId, loaded.get());
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Drop a user's cached principal. Inside a transaction it is dropped again after commit, so a lookup that
+     * read the old row before the commit cannot leave a stale entry behind.
+     *
+     * @param userId User ID.
+     */
+    public void invalidate(Long userId) {
+        evict(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userId);
+                }
+            });
+        }
+    }
+
+    /**
+     * @return Hit, miss and eviction counters.
+     */
+    public synchronized CacheStatsDto getStats() {
+        return new CacheStatsDto(hits, misses, evictions, principals.size());
+    }
+
+    private synchronized void evict(Long userId) {
+        principals.remove(userId);
+        invalidations++;
+    }
+}
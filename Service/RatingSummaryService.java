@@ -0,0 +1,79 @@
+package com.example.volunteer_platform.service;
+
+import com.example.volunteer_platform.model.RatingSummary;
+import com.example.volunteer_platform.repository.RatingSummaryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * RatingSummaryService keeps per-user rating aggregates up to date and rebuilds them from the Ratings table.
+ */
+@Service
+public class RatingSummaryService {
+
+    private static final Logger log = LoggerFactory.getLogger(RatingSummaryService.class);
+
+    @Autowired
+    private RatingSummaryRepository ratingSummaryRepository;
+
+    /**
+     * Add a new rating to the rated user's summary.
+     *
+     * @param ratedUserId ID of the rated user.
+     * @param score Rating score between 1 and 5.
+     */
+    @Transactional
+    public void recordRating(int ratedUserId, int score) {
+        ratingSummaryRepository.addRating(ratedUserId, score, LocalDateTime.now());
+    }
+
+    /**
+     * Get the rating summary of a user.
+     *
+     * @param ratedUserId ID of the rated user.
+     * @return Summary of the user, empty if the user has no ratings.
+     */
+    public RatingSummary getSummary(int ratedUserId) {
+        return ratingSummaryRepository.findById(ratedUserId).orElseGet(() -> new RatingSummary(ratedUserId));
+    }
+
+    /**
+     * Get the rating summaries of many users with one query.
+     *
+     * @param ratedUserIds IDs of the rated users.
+     * @return Summaries in the order of the given IDs, empty for users without ratings.
+     */
+    public List<RatingSummary> getSummaries(Collection<Integer> ratedUserIds) {
+        Map<Integer, RatingSummary> summaries = ratingSummaryRepository.findByRatedUserIdIn(ratedUserIds).stream()
+                .collect(Collectors.toMap(RatingSummary::getRatedUserId, Function.identity()));
+        return ratedUserIds.stream()
+                .map(id -> summaries.getOrDefault(id, new RatingSummary(id)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Recompute every summary from the Ratings table. The aggregation and the writes run in the database
+     * as one INSERT ... SELECT, so memory use does not depend on the number of users.
+     *
+     * @return Number of summaries written.
+     */
+    @Scheduled(cron = "${ratings.summary.rebuild-cron:0 0 3 * * *}")
+    @Transactional
+    public int rebuildSummaries() {
+        ratingSummaryRepository.deleteAllInBatch();
+        int written = ratingSummaryRepository.rebuildFromRatings(LocalDateTime.now());
+        log.info("Rebuilt {} rating summaries", written);
+        return written;
+    }
+}
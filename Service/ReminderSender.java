@@ -0,0 +1,20 @@
+package com.example.volunteer_platform.service;
+
+import com.example.volunteer_platform.dto.ReminderView;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Delivers task reminders to volunteers. Select the implementation with the reminders.sender property.
+ */
+public interface ReminderSender {
+
+    /**
+     * Deliver a batch of reminders.
+     *
+     * @param reminders Reminders to deliver.
+     * @return Signup IDs of the reminders that were delivered; the rest are retried on the next run.
+     */
+    Collection<Long> send(List<ReminderView> reminders);
+}
@@ -0,0 +1,138 @@
+package com.example.volunteer_platform.service;
+
+import com.example.volunteer_platform.dto.ReminderStatsDto;
+import com.example.volunteer_platform.dto.ReminderView;
+import com.example.volunteer_platform.enums.TaskStatus;
+import com.example.volunteer_platform.repository.TaskSignupRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ReminderService sends reminders to volunteers whose tasks take place in the next few days.
+ * Signups are scanned one event date at a time in keyset batches, so memory use is bounded by the batch size.
+ * Progress is kept in TaskSignup.reminderSent, which is marked after each delivered batch; a restarted run
+ * picks up the remaining signups. A crash between delivery and marking can repeat that one batch.
+ */
+@Service
+public class ReminderService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReminderService.class);
+
+    private static final Set<TaskStatus> REMINDED_STATUSES = EnumSet.of(TaskStatus.AVAILABLE, TaskStatus.FILLED, TaskStatus.ENDED);
+
+    @Autowired
+    private TaskSignupRepository taskSignupRepository;
+
+    @Autowired
+    private ReminderSender reminderSender;
+
+    @Value("${reminders.lead-days:2}")
+    private int leadDays;
+
+    @Value("${reminders.batch-size:500}")
+    private int batchSize;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong runs = new AtomicLong();
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private volatile long lastRunSent;
+    private volatile long lastRunMillis;
+    private volatile LocalDateTime lastRunAt;
+
+    /**
+     * Send the reminders that are due on a schedule.
+     */
+    @Scheduled(cron = "${reminders.cron:0 */15 * * * *}")
+    public void dispatchScheduled() {
+        dispatchDueReminders();
+    }
+
+    /**
+     * Send every unsent reminder for tasks held between today and the configured number of days ahead.
+     * Returns immediately if a run is already in progress.
+     *
+     * @return Reminder statistics after the run.
+     */
+    public ReminderStatsDto dispatchDueReminders() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("Reminder dispatch already running, skipping");
+            return getStats();
+        }
+        long start = System.nanoTime();
+        long sentThisRun = 0;
+        try {
+            LocalDate today = LocalDate.now();
+            for (int day = 0; day <= leadDays; day++) {
+                sentThisRun += dispatchForEventDate(today.plusDays(day));
+            }
+        } finally {
+            lastRunMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            lastRunSent = sentThisRun;
+            lastRunAt = LocalDateTime.now();
+            runs.incrementAndGet();
+            running.set(false);
+        }
+        if (sentThisRun > 0) {
+            log.info("Sent {} reminders in {} ms", sentThisRun, lastRunMillis);
+        }
+        return getStats();
+    }
+
+    /**
+     * Get the reminder throughput counters.
+     *
+     * @return Reminder statistics.
+     */
+    public ReminderStatsDto getStats() {
+        return new ReminderStatsDto(runs.get(), sent.get(), failed.get(), lastRunSent, lastRunMillis, lastRunAt);
+    }
+
+    private long dispatchForEventDate(LocalDate eventDate) {
+        long sentForDate = 0;
+        long cursor = 0;
+        while (true) {
+            List<ReminderView> batch = taskSignupRepository.findPendingReminders(eventDate, REMINDED_STATUSES, cursor,
+                    PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+            cursor = batch.get(batch.size() - 1).getSignupId();
+
+            Collection<Long> delivered;
+            try {
+                delivered = reminderSender.send(batch);
+            } catch (RuntimeException e) {
+                log.warn("Reminder sender failed for a batch of {} reminders", batch.size(), e);
+                delivered = Collections.emptyList();
+            }
+            if (!delivered.isEmpty()) {
+                int marked = taskSignupRepository.markRemindersSent(delivered);
+                sent.addAndGet(marked);
+                sentForDate += marked;
+            }
+            failed.addAndGet(batch.size() - delivered.size());
+
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+        return sentForDate;
+    }
+}
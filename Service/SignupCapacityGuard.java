@@ -0,0 +1,80 @@
+package com.example.volunteer_platform.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * In-memory counters of taken signup slots per task, so capacity checks during a signup rush
+ * are a compare-and-set instead of a database row lock. Counters are seeded lazily from the
+ * signup count in the database; the unique constraint on task_signup still rejects duplicates.
+ */
+@Component
+public class SignupCapacityGuard {
+
+    private final ConcurrentHashMap<Long, AtomicInteger> takenSlots = new ConcurrentHashMap<>();
+
+    /**
+     * Try to take one slot of a task.
+     *
+     * @param taskId Task ID.
+     * @param capacity Capacity of the task.
+     * @param signupCount Supplies the current signup count when the counter is not seeded yet.
+     * @return The slot number taken, starting at 1, or -1 if the task is full.
+     */
+    public int tryAcquire(Long taskId, int capacity, LongSupplier signupCount) {
+        AtomicInteger counter = takenSlots.get(taskId);
+        if (counter == null) {
+            AtomicInteger seeded = new AtomicInteger((int) signupCount.getAsLong());
+            counter = takenSlots.putIfAbsent(taskId, seeded);
+            if (counter == null) {
+                counter = seeded;
+            }
+        }
+        while (true) {
+            int taken = counter.get();
+            if (taken >= capacity) {
+                return -1;
+            }
+            if (counter.compareAndSet(taken, taken + 1)) {
+                return taken + 1;
+            }
+        }
+    }
+
+    /**
+     * Check whether all slots of a task are taken. A task without a seeded counter is reported as not full.
+     *
+     * @param taskId Task ID.
+     * @param capacity Capacity of the task.
+     * @return True if the counter is at or above capacity.
+     */
+    public boolean isFull(Long taskId, int capacity) {
+        AtomicInteger counter = takenSlots.get(taskId);
+        return counter != null && counter.get() >= capacity;
+    }
+
+    /**
+     * Give back a slot after a failed insert or a cancellation.
+     *
+     * @param taskId Task ID.
+     */
+    public void release(Long taskId) {
+        AtomicInteger counter = takenSlots.get(taskId);
+        if (counter != null) {
+            counter.updateAndGet(taken -> Math.max(0, taken - 1));
+        }
+    }
+
+    /**
+     * Drop the counters of a set of tasks so they are re-seeded from the database on next use.
+     *
+     * @param taskIds Task IDs.
+     */
+    public void forget(Collection<Long> taskIds) {
+        taskIds.forEach(takenSlots::remove);
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.volunteer_platform.service;
+
+import com.example.volunteer_platform.dto.CursorPage;
+import com.example.volunteer_platform.dto.SignupHistoryDto;
+import com.example.volunteer_platform.dto.SignupHistoryPage;
+import com.example.volunteer_platform.repository.TaskSignupRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * SignupHistoryService reads a volunteer's signup history newest first, either one keyset page at a time
+ * or as a CSV/NDJSON export that is written to the response while the rows are read.
+ */
+@Service
+public class SignupHistoryService {
+
+    private static final String CSV_HEADER = "signupId,signupDate,reminderSent,taskId,taskTitle,taskLocation,taskEventDate,taskStatus";
+
+    @Autowired
+    private TaskSignupRepository taskSignupRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Get one page of a volunteer's signup history, newest first.
+     *
+     * @param volunteerId Volunteer ID.
+     * @param before Signup date of the last row from the previous page, or null for the first page.
+     * @param beforeId Signup ID of the last row from the previous page, or null for the first page.
+     * @param size Maximum number of rows to return.
+     * @return Page of history rows with the cursor for the next page.
+     */
+    public SignupHistoryPage getHistoryPage(Long volunteerId, LocalDateTime before, Long beforeId, int size) {
+        int pageSize = CursorPage.clampSize(size);
+        LocalDateTime cursorDate = before != null ? before : LocalDateTime.of(9999, 12, 31, 23, 59);
+        long cursorId = before != null && beforeId != null ? beforeId : Long.MAX_VALUE;
+        List<SignupHistoryDto> rows = taskSignupRepository.findHistoryPage(volunteerId, cursorDate, cursorId,
+                PageRequest.of(0, pageSize + 1));
+        if (rows.size() <= pageSize) {
+            return new SignupHistoryPage(rows, null, null);
+        }
+        List<SignupHistoryDto> items = new ArrayList<>(rows.subList(0, pageSize));
+        SignupHistoryDto last = items.get(pageSize - 1);
+        return new SignupHistoryPage(items, last.getSignupDate(), last.getSignupId());
+    }
+
+    /**
+     * Write a volunteer's whole signup history to a stream, newest first. Rows are written as they are read,
+     * so memory use does not grow with the history; the database connection is held until the export ends.
+     *
+     * @param volunteerId Volunteer ID.
+     * @param csv True for CSV with a header line, false for NDJSON.
+     * @param out Response body.
+     * @throws IOException If writing to the response fails.
+     */
+    @Transactional(readOnly = true)
+    public void exportHistory(Long volunteerId, boolean csv, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        ObjectWriter json = objectMapper.writerFor(SignupHistoryDto.class);
+        if (csv) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+        try (Stream<SignupHistoryDto> rows = taskSignupRepository.streamHistory(volunteerId)) {
+            rows.forEach(row -> {
+                try {
+                    writer.write(csv ? toCsv(row) : json.writeValueAsString(row));
+                    writer.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private static String toCsv(SignupHistoryDto row) {
+        return row.getSignupId() + "," + row.getSignupDate() + "," + row.isReminderSent() + "," + row.getTaskId() + ","
+                + csvField(row.getTaskTitle()) + "," + csvField(row.getTaskLocation()) + ","
+                + (row.getTaskEventDate() != null ? row.getTaskEventDate() : "") + ","
+                + (row.getTaskStatus() != null ? row.getTaskStatus() : "");
+    }
+
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
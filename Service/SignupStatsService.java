@@ -0,0 +1,250 @@
+package com.example.volunteer_platform.service;
+
+import com.example.volunteer_platform.dto.OrganizationStatsDto;
+import com.example.volunteer_platform.dto.SignupCountView;
+import com.example.volunteer_platform.dto.TaskStatsDto;
+import com.example.volunteer_platform.dto.TaskSummaryDto;
+import com.example.volunteer_platform.enums.TaskStatus;
+import com.example.volunteer_platform.repository.TaskRepository;
+import com.example.volunteer_platform.repository.TaskSignupRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SignupStatsService keeps signup counters per task and per organization for the organization dashboard.
+ * Counters are moved by signups and cancellations as they happen, so the dashboard needs no per-task
+ * count queries. A periodic reconciliation corrects every counter with two aggregate queries over
+ * task_signup, which corrects any drift from races or from deletes that bypass the counters.
+ */
+@Service
+public class SignupStatsService {
+
+    private static final Logger log = LoggerFactory.getLogger(SignupStatsService.class);
+
+    private static final int UPCOMING_LIMIT = 5;
+    private static final long NO_ORGANIZATION = -1L;
+
+    @Autowired
+    private TaskSignupRepository taskSignupRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private final ConcurrentHashMap<Long, AtomicLong> signupsByTask = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, AtomicLong> signupsByOrganization = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Long> organizationOfTask = new ConcurrentHashMap<>(); // task ID -> organization ID
+    // True when every task or organization with signups has a counter, so a missing counter means zero
+    private volatile boolean tasksComplete;
+    private volatile boolean organizationsComplete;
+
+    /**
+     * Correct every counter against the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${stats.reconcile-interval-ms:300000}", initialDelayString = "${stats.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        Map<Long, Long> taskSnapshot = snapshot(signupsByTask);
+        int taskDrift = replace(signupsByTask, taskSnapshot, taskSignupRepository.countGroupByTask());
+        tasksComplete = true;
+        Map<Long, Long> organizationSnapshot = snapshot(signupsByOrganization);
+        int organizationDrift = replace(signupsByOrganization, organizationSnapshot,
+                taskSignupRepository.countGroupByOrganization());
+        organizationsComplete = true;
+        if (taskDrift > 0 || organizationDrift > 0) {
+            log.info("Reconciled signup counters: {} task and {} organization counters corrected", taskDrift, organizationDrift);
+        }
+    }
+
+    /**
+     * Count a new signup.
+     *
+     * @param taskId Task ID.
+     */
+    public void recordSignup(Long taskId) {
+        add(taskId, 1);
+    }
+
+    /**
+     * Count a cancelled signup.
+     *
+     * @param taskId Task ID.
+     */
+    public void recordCancellation(Long taskId) {
+        add(taskId, -1);
+    }
+
+    /**
+     * Drop the counters of deleted tasks, or of tasks whose signups were removed in bulk.
+     *
+     * @param taskIds Task IDs.
+     */
+    public void forgetTasks(Collection<Long> taskIds) {
+        for (Long taskId : taskIds) {
+            AtomicLong removed = signupsByTask.remove(taskId); // Absent from a complete map means zero signups
+            Long organizationId = organizationOfTask.get(taskId);
+            if (organizationId != null && organizationId == NO_ORGANIZATION) {
+                continue;
+            }
+            if (organizationId != null && (removed != null || tasksComplete)) {
+                if (removed != null) {
+                    addTo(signupsByOrganization, organizationId, -removed.get(), organizationsComplete);
+                }
+            } else {
+                forgetOrganizations(); // The owner or its share of the signups is unknown
+            }
+        }
+    }
+
+    /**
+     * Get the dashboard statistics of an organization.
+     *
+     * @param organizationId Organization ID.
+     * @return Totals, upcoming tasks and per-task signup counts.
+     */
+    public OrganizationStatsDto getOrganizationStats(Long organizationId) {
+        List<TaskSummaryDto> summaries = taskRepository.findSummariesByOrganizationId(organizationId);
+        List<Long> taskIds = new ArrayList<>(summaries.size());
+        summaries.forEach(summary -> {
+            taskIds.add(summary.getId());
+            organizationOfTask.putIfAbsent(summary.getId(), organizationId);
+        });
+        Map<Long, Long> counts = taskCounts(taskIds);
+
+        List<TaskStatsDto> tasks = new ArrayList<>(summaries.size());
+        int openTasks = 0;
+        int filledTasks = 0;
+        long filledSlots = 0;
+        long totalCapacity = 0;
+        for (TaskSummaryDto summary : summaries) {
+            long signups = counts.getOrDefault(summary.getId(), 0L);
+            Integer capacity = summary.getCapacity();
+            Double fillRate = null;
+            if (capacity != null && capacity > 0) {
+                fillRate = (double) signups / capacity;
+                filledSlots += Math.min(signups, capacity);
+                totalCapacity += capacity;
+            }
+            if (summary.getStatus() == TaskStatus.AVAILABLE) {
+                openTasks++;
+            } else if (summary.getStatus() == TaskStatus.FILLED) {
+                filledTasks++;
+            }
+            tasks.add(new TaskStatsDto(summary.getId(), summary.getTitle(), summary.getEventDate(), summary.getStatus(),
+                    capacity, signups, fillRate));
+        }
+
+        LocalDate today = LocalDate.now();
+        List<TaskStatsDto> upcoming = tasks.stream()
+                .filter(task -> task.getEventDate() != null && !task.getEventDate().isBefore(today))
+                .sorted(Comparator.comparing(TaskStatsDto::getEventDate).thenComparing(TaskStatsDto::getTaskId))
+                .limit(UPCOMING_LIMIT)
+                .toList();
+
+        return new OrganizationStatsDto(organizationId, tasks.size(), openTasks, filledTasks,
+                organizationCount(organizationId), totalCapacity > 0 ? (double) filledSlots / totalCapacity : null,
+                upcoming, tasks);
+    }
+
+    private void add(Long taskId, long delta) {
+        addTo(signupsByTask, taskId, delta, tasksComplete);
+        long organizationId = organizationOfTask.computeIfAbsent(taskId,
+                id -> taskRepository.findOrganizationIdsByTaskId(id).stream().findFirst().orElse(NO_ORGANIZATION));
+        if (organizationId != NO_ORGANIZATION) {
+            addTo(signupsByOrganization, organizationId, delta, organizationsComplete);
+        }
+    }
+
+    /**
+     * Move a counter. An absent counter is only created when the map is complete; otherwise it is seeded
+     * from the database on the next read, which already includes this change.
+     */
+    private static void addTo(ConcurrentHashMap<Long, AtomicLong> counters, Long key, long delta, boolean complete) {
+        AtomicLong counter = complete ? counters.computeIfAbsent(key, k -> new AtomicLong()) : counters.get(key);
+        if (counter != null) {
+            counter.updateAndGet(value -> Math.max(0, value + delta));
+        }
+    }
+
+    private Map<Long, Long> taskCounts(List<Long> taskIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long taskId : taskIds) {
+            AtomicLong counter = signupsByTask.get(taskId);
+            if (counter != null) {
+                counts.put(taskId, counter.get());
+            } else if (!tasksComplete) {
+                missing.add(taskId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            Map<Long, Long> seeded = new HashMap<>();
+            missing.forEach(taskId -> seeded.put(taskId, 0L));
+            taskSignupRepository.countByTaskIdIn(missing).forEach(row -> seeded.put(row.getOwnerId(), row.getSignups()));
+            seeded.forEach((taskId, count) ->
+                    counts.put(taskId, signupsByTask.computeIfAbsent(taskId, id -> new AtomicLong(count)).get()));
+        }
+        return counts;
+    }
+
+    private long organizationCount(Long organizationId) {
+        AtomicLong counter = signupsByOrganization.get(organizationId);
+        if (counter != null) {
+            return counter.get();
+        }
+        if (organizationsComplete) {
+            return 0;
+        }
+        long count = taskSignupRepository.countByOrganizationId(organizationId);
+        return signupsByOrganization.computeIfAbsent(organizationId, id -> new AtomicLong(count)).get();
+    }
+
+    private void forgetOrganizations() {
+        organizationsComplete = false;
+        signupsByOrganization.clear();
+    }
+
+    private static Map<Long, Long> snapshot(ConcurrentHashMap<Long, AtomicLong> counters) {
+        Map<Long, Long> values = new HashMap<>();
+        counters.forEach((key, counter) -> values.put(key, counter.get()));
+        return values;
+    }
+
+    /**
+     * Correct counters by the difference between the database counts and the values they had when the
+     * counts were queried, so signups and cancellations counted in the meantime are kept. Counters created
+     * after the snapshot were seeded or started at zero later and are left alone; missing ones are created.
+     *
+     * @return Number of existing counters that were corrected.
+     */
+    private static int replace(ConcurrentHashMap<Long, AtomicLong> counters, Map<Long, Long> seen,
+                               List<SignupCountView> rows) {
+        Map<Long, Long> actual = new HashMap<>();
+        rows.forEach(row -> actual.put(row.getOwnerId(), row.getSignups()));
+        int drift = 0;
+        for (Map.Entry<Long, AtomicLong> entry : counters.entrySet()) {
+            Long before = seen.get(entry.getKey());
+            long delta = before == null ? 0 : actual.getOrDefault(entry.getKey(), 0L) - before;
+            if (delta != 0) {
+                entry.getValue().updateAndGet(value -> Math.max(0, value + delta));
+                drift++;
+            }
+        }
+        actual.forEach((key, count) -> counters.putIfAbsent(key, new AtomicLong(count)));
+        return drift;
+    }
+}
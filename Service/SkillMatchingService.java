@@ -0,0 +1,355 @@
+package com.example.volunteer_platform.service;
+
+import com.example.volunteer_platform.dto.SkillLinkView;
+import com.example.volunteer_platform.dto.SkillMatchDto;
+import com.example.volunteer_platform.enums.TaskStatus;
+import com.example.volunteer_platform.model.Skill;
+import com.example.volunteer_platform.model.Task;
+import com.example.volunteer_platform.model.Volunteer;
+import com.example.volunteer_platform.repository.TaskRepository;
+import com.example.volunteer_platform.repository.VolunteerRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntConsumer;
+import java.util.stream.Stream;
+
+/**
+ * SkillMatchingService matches volunteers to tasks by skill overlap without touching the database.
+ * Skills are mapped to dense bit positions; every task and volunteer keeps a skill bitset, and every
+ * skill keeps a bitset of the tasks and volunteers that have it. Overlap is scored with popcount.
+ */
+@Service
+public class SkillMatchingService {
+
+    private static final Logger log = LoggerFactory.getLogger(SkillMatchingService.class);
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private VolunteerRepository volunteerRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final Map<Long, Integer> skillSlots = new HashMap<>(); // skill ID -> bit position
+    private int nextSkillSlot; // Slots of deleted skills are not reused
+    private final SkillBitsetIndex tasks = new SkillBitsetIndex();
+    private final SkillBitsetIndex volunteers = new SkillBitsetIndex();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Load the skills of all available tasks and all volunteers into the index.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Map<Long, List<Long>> taskLinks = new HashMap<>();
+        Map<Long, List<Long>> volunteerLinks = new HashMap<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<SkillLinkView> links = taskRepository.streamSkillLinksByStatus(TaskStatus.AVAILABLE)) {
+                links.forEach(link -> taskLinks.computeIfAbsent(link.getOwnerId(), id -> new ArrayList<>()).add(link.getSkillId()));
+            }
+            try (Stream<SkillLinkView> links = volunteerRepository.streamSkillLinks()) {
+                links.forEach(link -> volunteerLinks.computeIfAbsent(link.getOwnerId(), id -> new ArrayList<>()).add(link.getSkillId()));
+            }
+        });
+
+        lock.writeLock().lock();
+        try {
+            tasks.clear();
+            volunteers.clear();
+            taskLinks.forEach((taskId, skillIds) -> tasks.put(taskId, toBits(skillIds)));
+            volunteerLinks.forEach((volunteerId, skillIds) -> volunteers.put(volunteerId, toBits(skillIds)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Skill matching index built with {} tasks and {} volunteers", taskLinks.size(), volunteerLinks.size());
+    }
+
+    /**
+     * Replace the indexed skills of a task. Tasks that are no longer available are removed.
+     *
+     * @param task Task with its current skills.
+     */
+    public void updateTask(Task task) {
+        if (task.getStatus() != null && task.getStatus() != TaskStatus.AVAILABLE) {
+            removeTask(task.getId());
+            return;
+        }
+        update(tasks, task.getId(), task.getSkills());
+    }
+
+    /**
+     * Replace the indexed skills of a volunteer.
+     *
+     * @param volunteer Volunteer with their current skills.
+     */
+    public void updateVolunteer(Volunteer volunteer) {
+        update(volunteers, volunteer.getId(), volunteer.getSkills());
+    }
+
+    /**
+     * Remove a task from the index.
+     *
+     * @param taskId Task ID.
+     */
+    public void removeTask(Long taskId) {
+        lock.writeLock().lock();
+        try {
+            tasks.remove(taskId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a set of tasks from the index.
+     *
+     * @param taskIds Task IDs.
+     */
+    public void removeTasks(Collection<Long> taskIds) {
+        lock.writeLock().lock();
+        try {
+            taskIds.forEach(tasks::remove);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a volunteer from the index.
+     *
+     * @param volunteerId Volunteer ID.
+     */
+    public void removeVolunteer(Long volunteerId) {
+        lock.writeLock().lock();
+        try {
+            volunteers.remove(volunteerId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a skill from every task and volunteer in the index.
+     *
+     * @param skillId Skill ID.
+     */
+    public void removeSkill(Long skillId) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = skillSlots.remove(skillId);
+            if (slot != null) {
+                tasks.clearSkill(slot);
+                volunteers.clearSkill(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Find the available tasks that best match a volunteer's skills.
+     *
+     * @param volunteerId Volunteer ID.
+     * @param limit Maximum number of matches.
+     * @return Matches ordered by number of shared skills.
+     */
+    public List<SkillMatchDto> recommendTasks(Long volunteerId, int limit) {
+        lock.readLock().lock();
+        try {
+            return volunteers.topMatches(volunteerId, tasks, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Find the volunteers whose skills best match a task's required skills.
+     *
+     * @param taskId Task ID.
+     * @param limit Maximum number of matches.
+     * @return Matches ordered by number of shared skills.
+     */
+    public List<SkillMatchDto> findCandidateVolunteers(Long taskId, int limit) {
+        lock.readLock().lock();
+        try {
+            return tasks.topMatches(taskId, volunteers, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void update(SkillBitsetIndex index, Long ownerId, Set<Skill> skills) {
+        if (ownerId == null) {
+            return;
+        }
+        List<Long> skillIds = new ArrayList<>();
+        if (skills != null) {
+            skills.forEach(skill -> skillIds.add(skill.getId()));
+        }
+        lock.writeLock().lock();
+        try {
+            if (skillIds.isEmpty()) {
+                index.remove(ownerId);
+            } else {
+                index.put(ownerId, toBits(skillIds));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Convert skill IDs to a bitset of skill slots. Must hold the write lock.
+     */
+    private long[] toBits(List<Long> skillIds) {
+        long[] bits = new long[0];
+        for (Long skillId : skillIds) {
+            int slot = skillSlots.computeIfAbsent(skillId, id -> nextSkillSlot++);
+            if (slot / 64 >= bits.length) {
+                bits = Arrays.copyOf(bits, slot / 64 + 1);
+            }
+            bits[slot / 64] |= 1L << (slot % 64);
+        }
+        return bits;
+    }
+
+    /**
+     * Skill bitsets for one kind of owner (tasks or volunteers), addressed by dense owner slots.
+     */
+    private static final class SkillBitsetIndex {
+
+        private final Map<Long, Integer> ownerSlots = new HashMap<>(); // owner ID -> owner slot
+        private final List<Long> ownerIds = new ArrayList<>(); // owner slot -> owner ID
+        private final List<long[]> ownerSkills = new ArrayList<>(); // owner slot -> skill bitset
+        private final ArrayDeque<Integer> freeSlots = new ArrayDeque<>();
+        private final Map<Integer, BitSet> ownersBySkill = new HashMap<>(); // skill slot -> owner slots
+
+        void put(Long ownerId, long[] skills) {
+            remove(ownerId);
+            int slot = freeSlots.isEmpty() ? ownerIds.size() : freeSlots.pop();
+            if (slot == ownerIds.size()) {
+                ownerIds.add(ownerId);
+                ownerSkills.add(skills);
+            } else {
+                ownerIds.set(slot, ownerId);
+                ownerSkills.set(slot, skills);
+            }
+            ownerSlots.put(ownerId, slot);
+            forEachSkill(skills, skill -> ownersBySkill.computeIfAbsent(skill, s -> new BitSet()).set(slot));
+        }
+
+        void remove(Long ownerId) {
+            Integer slot = ownerSlots.remove(ownerId);
+            if (slot == null) {
+                return;
+            }
+            forEachSkill(ownerSkills.get(slot), skill -> {
+                BitSet owners = ownersBySkill.get(skill);
+                if (owners != null) {
+                    owners.clear(slot);
+                }
+            });
+            ownerIds.set(slot, null);
+            ownerSkills.set(slot, null);
+            freeSlots.push(slot);
+        }
+
+        void clearSkill(int skill) {
+            BitSet owners = ownersBySkill.remove(skill);
+            if (owners == null) {
+                return;
+            }
+            for (int slot = owners.nextSetBit(0); slot >= 0; slot = owners.nextSetBit(slot + 1)) {
+                ownerSkills.get(slot)[skill / 64] &= ~(1L << (skill % 64));
+            }
+        }
+
+        void clear() {
+            ownerSlots.clear();
+            ownerIds.clear();
+            ownerSkills.clear();
+            freeSlots.clear();
+            ownersBySkill.clear();
+        }
+
+        /**
+         * Score every owner in the other index that shares a skill with the given owner, keeping the top matches.
+         */
+        List<SkillMatchDto> topMatches(Long ownerId, SkillBitsetIndex other, int limit) {
+            Integer slot = ownerSlots.get(ownerId);
+            if (slot == null || limit <= 0) {
+                return Collections.emptyList();
+            }
+            long[] query = ownerSkills.get(slot);
+
+            BitSet candidates = new BitSet();
+            forEachSkill(query, skill -> {
+                BitSet owners = other.ownersBySkill.get(skill);
+                if (owners != null) {
+                    candidates.or(owners);
+                }
+            });
+
+            Comparator<SkillMatchDto> worstFirst = Comparator.comparingInt(SkillMatchDto::getMatchedSkills)
+                    .thenComparing(SkillMatchDto::getId, Comparator.reverseOrder());
+            PriorityQueue<SkillMatchDto> top = new PriorityQueue<>(limit + 1, worstFirst);
+            for (int candidate = candidates.nextSetBit(0); candidate >= 0; candidate = candidates.nextSetBit(candidate + 1)) {
+                long[] skills = other.ownerSkills.get(candidate);
+                int matched = 0;
+                for (int word = 0; word < Math.min(query.length, skills.length); word++) {
+                    matched += Long.bitCount(query[word] & skills[word]);
+                }
+                if (matched == 0) {
+                    continue;
+                }
+                top.offer(new SkillMatchDto(other.ownerIds.get(candidate), matched, popcount(skills)));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+
+            List<SkillMatchDto> matches = new ArrayList<>(top);
+            matches.sort(worstFirst.reversed());
+            return matches;
+        }
+
+        private static int popcount(long[] bits) {
+            int count = 0;
+            for (long word : bits) {
+                count += Long.bitCount(word);
+            }
+            return count;
+        }
+
+        private static void forEachSkill(long[] bits, IntConsumer action) {
+            for (int word = 0; word < bits.length; word++) {
+                long remaining = bits[word];
+                while (remaining != 0) {
+                    action.accept(word * 64 + Long.numberOfTrailingZeros(remaining));
+                    remaining &= remaining - 1;
+                }
+            }
+        }
+    }
+}
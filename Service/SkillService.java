@@ -1,39 +1,112 @@
 package com.example.volunteer_platform.service;
 
+import com.example.volunteer_platform.dto.CacheStatsDto;
 import com.example.volunteer_platform.model.Skill;
 import com.example.volunteer_platform.repository.SkillRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * SkillService provides methods to manage skills in the system.
+ * Skills are served from a read-through cache keyed by name and by ID, since the skill
+ * vocabulary is small and rarely changes. Entries expire after a TTL and the cache is
+ * bounded in size; every write through this service updates or invalidates it.
  */
 @Service
 public class SkillService {
 
+    private static final Logger log = LoggerFactory.getLogger(SkillService.class);
+
+    private static final int CREATE_LOCK_STRIPES = 32;
+
     @Autowired
     private SkillRepository skillRepository;
 
+    @Autowired
+    private SkillMatchingService skillMatchingService;
+
+    @Value("${skills.cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${skills.cache.ttl:30m}")
+    private Duration ttl;
+
+    private final Map<String, CachedSkill> skillsByName = new ConcurrentHashMap<>();
+    private final Map<Long, CachedSkill> skillsById = new LinkedHashMap<>(); // Oldest entry first; guarded by itself
+    private volatile CachedCatalog catalog; // Snapshot of all skills, or null when invalidated
+    private final ReentrantLock[] createLocks = new ReentrantLock[CREATE_LOCK_STRIPES];
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public SkillService() {
+        for (int i = 0; i < createLocks.length; i++) {
+            createLocks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Preload the whole skill catalog into the cache at startup.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        log.info("Skill cache warmed with {} skills", getAllSkills().size());
+    }
+
     /**
      * Get all skills in the system.
      *
      * @return List of skills.
      */
     public List<Skill> getAllSkills() {
-        return skillRepository.findAll();
+        CachedCatalog current = catalog;
+        if (current != null && !current.isExpired()) {
+            hits.incrementAndGet();
+            return new ArrayList<>(current.skills);
+        }
+        misses.incrementAndGet();
+        List<Skill> skills = skillRepository.findAll();
+        skills.forEach(this::put);
+        catalog = new CachedCatalog(List.copyOf(skills), expiry());
+        return skills;
     }
 
     /**
-     * Find a skill by its name.
+     * Find a skill by its name. Names are stored in lower case.
      *
      * @param name Name of the skill.
      * @return Optional containing the skill if found.
      */
     public Optional<Skill> findByName(String name) {
-        return skillRepository.findByName(name);
+        String key = normalize(name);
+        CachedSkill cached = skillsByName.get(key);
+        if (cached != null && !cached.isExpired()) {
+            hits.incrementAndGet();
+            return Optional.of(cached.skill);
+        }
+        misses.incrementAndGet();
+        return skillRepository.findByName(key).map(this::put);
     }
 
     /**
@@ -43,7 +116,85 @@ public class SkillService {
      * @return Optional containing the skill if found.
      */
     public Optional<Skill> findById(Long skillId) {
-        return skillRepository.findById(skillId);
+        CachedSkill cached;
+        synchronized (skillsById) {
+            cached = skillsById.get(skillId);
+        }
+        if (cached != null && !cached.isExpired()) {
+            hits.incrementAndGet();
+            return Optional.of(cached.skill);
+        }
+        misses.incrementAndGet();
+        return skillRepository.findById(skillId).map(this::put);
+    }
+
+    /**
+     * Find a skill by its name, creating it if it does not exist.
+     * Concurrent callers for the same name are serialized on a lock stripe, and a skill created
+     * concurrently by another instance is picked up from the unique-name violation.
+     *
+     * @param name Name of the skill.
+     * @return Existing or newly created skill.
+     */
+    public Skill findOrCreateByName(String name) {
+        String key = normalize(name);
+        Optional<Skill> existing = findByName(key);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+
+        ReentrantLock lock = createLocks[Math.floorMod(key.hashCode(), createLocks.length)];
+        lock.lock();
+        try {
+            existing = findByName(key);
+            if (existing.isPresent()) {
+                return existing.get();
+            }
+            try {
+                Skill skill = skillRepository.saveAndFlush(Skill.builder().name(key).build());
+                catalog = null;
+                return put(skill);
+            } catch (DataIntegrityViolationException e) {
+                return skillRepository.findByName(key).map(this::put).orElseThrow(() -> e);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Find skills by name, creating the ones that do not exist.
+     * Names missing from the cache are looked up with a single query.
+     *
+     * @param names Names of the skills.
+     * @return Skills keyed by their normalized name.
+     */
+    public Map<String, Skill> findOrCreateAllByName(Collection<String> names) {
+        Map<String, Skill> found = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String name : names) {
+            String key = normalize(name);
+            CachedSkill cached = skillsByName.get(key);
+            if (cached != null && !cached.isExpired()) {
+                hits.incrementAndGet();
+                found.put(key, cached.skill);
+            } else if (!missing.contains(key)) {
+                missing.add(key);
+            }
+        }
+        if (missing.isEmpty()) {
+            return found;
+        }
+        misses.addAndGet(missing.size());
+        for (Skill skill : skillRepository.findByNameIn(missing)) {
+            found.put(skill.getName(), put(skill));
+        }
+        for (String key : missing) {
+            if (!found.containsKey(key)) {
+                found.put(key, findOrCreateByName(key));
+            }
+        }
+        return found;
     }
 
     /**
@@ -52,7 +203,15 @@ public class SkillService {
      * @param skill Skill to be saved.
      */
     public void saveSkill(Skill skill) {
-        skillRepository.save(skill);
+        if (skill.getName() != null) {
+            skill.setName(normalize(skill.getName()));
+        }
+        if (skill.getId() != null) {
+            evict(skill.getId());
+        }
+        Skill saved = skillRepository.save(skill);
+        catalog = null;
+        put(saved);
     }
 
     /**
@@ -62,5 +221,97 @@ public class SkillService {
      */
     public void deleteSkillById(Long skillId) {
         skillRepository.deleteById(skillId);
+        evict(skillId);
+        catalog = null;
+        skillMatchingService.removeSkill(skillId);
+    }
+
+    /**
+     * Get the hit and miss counters of the skill cache.
+     *
+     * @return Cache statistics.
+     */
+    public CacheStatsDto getCacheStats() {
+        int size;
+        synchronized (skillsById) {
+            size = skillsById.size();
+        }
+        return new CacheStatsDto(hits.get(), misses.get(), evictions.get(), size);
+    }
+
+    /**
+     * Cache a skill. Every entry gets the same TTL, so keeping skillsById in insertion order keeps it in
+     * expiry order, and the entry to evict when the cache is full is always the first one.
+     */
+    private Skill put(Skill skill) {
+        CachedSkill cached = new CachedSkill(skill, expiry());
+        CachedSkill oldest = null;
+        synchronized (skillsById) {
+            skillsById.remove(skill.getId()); // Re-inserted at the end
+            if (skillsById.size() >= maxSize && !skillsById.isEmpty()) {
+                Iterator<CachedSkill> entries = skillsById.values().iterator();
+                oldest = entries.next();
+                entries.remove();
+            }
+            skillsById.put(skill.getId(), cached);
+        }
+        if (oldest != null) {
+            skillsByName.remove(oldest.skill.getName(), oldest);
+            evictions.incrementAndGet();
+        }
+        skillsByName.put(skill.getName(), cached);
+        return skill;
+    }
+
+    private void evict(Long skillId) {
+        CachedSkill removed;
+        synchronized (skillsById) {
+            removed = skillsById.remove(skillId);
+        }
+        if (removed != null) {
+            skillsByName.remove(removed.skill.getName(), removed);
+        }
+    }
+
+    private long expiry() {
+        return System.nanoTime() + ttl.toNanos();
+    }
+
+    /**
+     * Normalize a skill name the way it is stored.
+     *
+     * @param name Skill name.
+     * @return Trimmed, lower-case name.
+     */
+    public static String normalize(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class CachedSkill {
+        private final Skill skill;
+        private final long expiresAt; // System.nanoTime() deadline
+
+        private CachedSkill(Skill skill, long expiresAt) {
+            this.skill = skill;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired() {
+            return System.nanoTime() - expiresAt > 0;
+        }
+    }
+
+    private static final class CachedCatalog {
+        private final List<Skill> skills;
+        private final long expiresAt; // System.nanoTime() deadline
+
+        private CachedCatalog(List<Skill> skills, long expiresAt) {
+            this.skills = skills;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired() {
+            return System.nanoTime() - expiresAt > 0;
+        }
     }
 }
@@ -0,0 +1,195 @@
+package com.example.volunteer_platform.service;
+
+import com.example.volunteer_platform.dto.TaskDateView;
+import com.example.volunteer_platform.enums.TaskStatus;
+import com.example.volunteer_platform.model.Task;
+import com.example.volunteer_platform.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * In-memory calendar of the available tasks taking place in the next few days, for date-window listings.
+ * Task IDs are kept in a skip list keyed by event date, so a range query is a sub-map walk that never touches
+ * the database. The window rolls forward once a day, dropping past days and loading only the newly covered ones.
+ * Kept in sync by the task save, delete and status change paths.
+ */
+@Component
+public class TaskCalendarIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskCalendarIndex.class);
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Value("${tasks.calendar.window-days:60}")
+    private int windowDays;
+
+    private final ConcurrentSkipListMap<LocalDate, ConcurrentSkipListSet<Long>> tasksByDate = new ConcurrentSkipListMap<>();
+    private final Map<Long, LocalDate> dateOfTask = new ConcurrentHashMap<>(); // task ID -> indexed event date
+    private final Object writeLock = new Object(); // Serializes writers, including the loads; readers only walk the skip list
+
+    private volatile LocalDate windowStart; // First covered day; null until loaded
+    private volatile LocalDate windowEnd; // Last covered day
+
+    /**
+     * Load the available tasks of the whole window.
+     * The tasks are read under the write lock, so a concurrent {@link #update} is applied after the load
+     * instead of being wiped by it.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDate today = LocalDate.now();
+        LocalDate end = today.plusDays(windowDays - 1L);
+        int size;
+        synchronized (writeLock) {
+            List<TaskDateView> tasks = taskRepository.findEventDatesByStatusBetween(TaskStatus.AVAILABLE, today, end);
+            windowStart = null;
+            tasksByDate.clear();
+            dateOfTask.clear();
+            tasks.forEach(task -> putLocked(task.getId(), task.getEventDate()));
+            windowEnd = end;
+            windowStart = today;
+            size = tasks.size();
+        }
+        log.info("Task calendar built with {} tasks from {} to {}", size, today, end);
+    }
+
+    /**
+     * Move the window to start today: drop the days that have passed and load the days that became covered.
+     * The new days are read under the write lock, so a task saved meanwhile for one of them is not lost.
+     */
+    @Scheduled(cron = "${tasks.calendar.cron:0 5 0 * * *}")
+    public void roll() {
+        LocalDate today = LocalDate.now();
+        LocalDate end = today.plusDays(windowDays - 1L);
+        int added;
+        synchronized (writeLock) {
+            LocalDate start = windowStart;
+            if (start == null || !start.isBefore(today)) {
+                return;
+            }
+            LocalDate loadFrom = windowEnd.plusDays(1).isBefore(today) ? today : windowEnd.plusDays(1);
+            List<TaskDateView> tasks = loadFrom.isAfter(end)
+                    ? List.of() : taskRepository.findEventDatesByStatusBetween(TaskStatus.AVAILABLE, loadFrom, end);
+            windowStart = today;
+            NavigableMap<LocalDate, ConcurrentSkipListSet<Long>> past = tasksByDate.headMap(today, false);
+            past.values().forEach(taskIds -> taskIds.forEach(dateOfTask::remove));
+            past.clear();
+            tasks.forEach(task -> putLocked(task.getId(), task.getEventDate()));
+            windowEnd = end;
+            added = tasks.size();
+        }
+        log.debug("Task calendar rolled to {} - {}, {} tasks added", today, end, added);
+    }
+
+    /**
+     * Add, move or remove a task according to its current event date and status.
+     * Only available tasks inside the window are indexed.
+     *
+     * @param task Task to index.
+     */
+    public void update(Task task) {
+        if (task.getId() == null) {
+            return;
+        }
+        synchronized (writeLock) {
+            removeLocked(task.getId());
+            boolean available = task.getStatus() == null || task.getStatus() == TaskStatus.AVAILABLE;
+            if (available && task.getEventDate() != null && inWindow(task.getEventDate())) {
+                putLocked(task.getId(), task.getEventDate());
+            }
+        }
+    }
+
+    /**
+     * Remove a set of tasks from the index.
+     *
+     * @param taskIds Task IDs.
+     */
+    public void removeAll(Collection<Long> taskIds) {
+        synchronized (writeLock) {
+            taskIds.forEach(this::removeLocked);
+        }
+    }
+
+    /**
+     * Check whether a date range lies entirely inside the window.
+     *
+     * @param from First date, inclusive.
+     * @param to Last date, inclusive.
+     * @return True if {@link #findTaskIds} can answer the range.
+     */
+    public boolean covers(LocalDate from, LocalDate to) {
+        LocalDate start = windowStart;
+        return start != null && !from.isBefore(start) && !to.isAfter(windowEnd);
+    }
+
+    /**
+     * Find the available tasks taking place in a date range, ordered by event date and ID.
+     * Only meaningful for ranges the index {@link #covers}.
+     *
+     * @param from First event date, inclusive.
+     * @param to Last event date, inclusive.
+     * @param limit Maximum number of task IDs.
+     * @return Task IDs.
+     */
+    public List<Long> findTaskIds(LocalDate from, LocalDate to, int limit) {
+        List<Long> taskIds = new ArrayList<>(Math.min(limit, 64));
+        for (ConcurrentSkipListSet<Long> day : tasksByDate.subMap(from, true, to, true).values()) {
+            for (Long taskId : day) {
+                if (taskIds.size() == limit) {
+                    return taskIds;
+                }
+                taskIds.add(taskId);
+            }
+        }
+        return taskIds;
+    }
+
+    /**
+     * @return Number of indexed tasks.
+     */
+    public int size() {
+        return dateOfTask.size();
+    }
+
+    private boolean inWindow(LocalDate date) {
+        LocalDate start = windowStart;
+        return start != null && !date.isBefore(start) && !date.isAfter(windowEnd);
+    }
+
+    private void putLocked(Long taskId, LocalDate eventDate) {
+        tasksByDate.computeIfAbsent(eventDate, date -> new ConcurrentSkipListSet<>()).add(taskId);
+        dateOfTask.put(taskId, eventDate);
+    }
+
+    private void removeLocked(Long taskId) {
+        LocalDate eventDate = dateOfTask.remove(taskId);
+        if (eventDate == null) {
+            return;
+        }
+        ConcurrentSkipListSet<Long> day = tasksByDate.get(eventDate);
+        if (day != null) {
+            day.remove(taskId);
+            if (day.isEmpty()) {
+                tasksByDate.remove(eventDate, day);
+            }
+        }
+    }
+}
@@ -0,0 +1,363 @@
+package com.example.volunteer_platform.service;
+
+import com.example.volunteer_platform.dto.TaskGeoView;
+import com.example.volunteer_platform.enums.TaskStatus;
+import com.example.volunteer_platform.model.Task;
+import com.example.volunteer_platform.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory spatial index of available tasks with coordinates, for "tasks near me" searches.
+ * Tasks are bucketed into a fixed grid of 0.1 degree cells; a radius query only scans the cells that overlap
+ * the search circle and computes exact great-circle distances for the tasks in them.
+ * Kept in sync by the task save, delete and status change paths, and rebuilt from the database at startup.
+ */
+@Component
+public class TaskGeoIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskGeoIndex.class);
+
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private static final double CELL_DEGREES = 0.1;
+    private static final int LAT_CELLS = 1800; // 180 / CELL_DEGREES
+    private static final int LON_CELLS = 3600; // 360 / CELL_DEGREES
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180;
+
+    /**
+     * Order of nearby search results.
+     */
+    public enum SortOrder {
+        DISTANCE, // Nearest first, then soonest event
+        EVENT_DATE // Soonest event first, then nearest
+    }
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final Map<Integer, Cell> cells = new HashMap<>(); // cell key -> tasks in the cell
+    private final Map<Long, Integer> cellOfTask = new HashMap<>(); // task ID -> cell key
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private List<Runnable> writesDuringRebuild; // Replayed after a rebuild's load; null when none runs. Guarded by the write lock
+
+    /**
+     * Load the coordinates of all available tasks into the index.
+     * Searches keep using the current index while the database is read; updates made meanwhile are applied
+     * right away and replayed on top of the loaded points, so none is lost.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<TaskGeoView> points = new ArrayList<>();
+        lock.writeLock().lock();
+        try {
+            writesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<TaskGeoView> stream = taskRepository.streamGeoPointsByStatus(TaskStatus.AVAILABLE)) {
+                    stream.forEach(points::add);
+                }
+            });
+
+            lock.writeLock().lock();
+            try {
+                cells.clear();
+                cellOfTask.clear();
+                for (TaskGeoView point : points) {
+                    putLocked(point.getId(), point.getLatitude(), point.getLongitude(), point.getEventDate());
+                }
+                writesDuringRebuild.forEach(Runnable::run);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            lock.writeLock().lock();
+            try {
+                writesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        log.info("Task geo index built with {} tasks", points.size());
+    }
+
+    /**
+     * Add, move or remove a task according to its current coordinates and status.
+     * Only available tasks with both coordinates are indexed.
+     *
+     * @param task Task to index.
+     */
+    public void update(Task task) {
+        if (task.getId() == null) {
+            return;
+        }
+        Long taskId = task.getId();
+        Double latitude = task.getLatitude();
+        Double longitude = task.getLongitude();
+        LocalDate eventDate = task.getEventDate();
+        boolean indexable = latitude != null && longitude != null && eventDate != null
+                && (task.getStatus() == null || task.getStatus() == TaskStatus.AVAILABLE);
+        write(() -> {
+            removeLocked(taskId);
+            if (indexable) {
+                putLocked(taskId, latitude, longitude, eventDate);
+            }
+        });
+    }
+
+    /**
+     * Remove a set of tasks from the index.
+     *
+     * @param taskIds Task IDs.
+     */
+    public void removeAll(Collection<Long> taskIds) {
+        List<Long> removed = List.copyOf(taskIds);
+        write(() -> removed.forEach(this::removeLocked));
+    }
+
+    private void write(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+            if (writesDuringRebuild != null) {
+                writesDuringRebuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return Number of indexed tasks.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return cellOfTask.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Find the available tasks within a radius of a point.
+     *
+     * @param latitude Latitude of the search point in degrees.
+     * @param longitude Longitude of the search point in degrees.
+     * @param radiusKm Search radius in kilometres.
+     * @param limit Maximum number of tasks to return.
+     * @param order Result order.
+     * @return Matches in the requested order.
+     */
+    public List<Hit> findNearby(double latitude, double longitude, double radiusKm, int limit, SortOrder order) {
+        if (limit <= 0 || radiusKm <= 0) {
+            return Collections.emptyList();
+        }
+        Comparator<Hit> best = order == SortOrder.EVENT_DATE
+                ? Comparator.comparingLong(Hit::getEpochDay).thenComparingDouble(Hit::getDistanceKm)
+                : Comparator.comparingDouble(Hit::getDistanceKm).thenComparingLong(Hit::getEpochDay);
+        PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, best.reversed()); // Worst match at the head
+
+        double queryLat = Math.toRadians(latitude);
+        double queryLon = Math.toRadians(longitude);
+        double queryCos = Math.cos(queryLat);
+        double latSpan = radiusKm / KM_PER_DEGREE;
+        double minLat = Math.max(-90, latitude - latSpan);
+        double maxLat = Math.min(90, latitude + latSpan);
+        int minLatCell = latCell(minLat);
+        int maxLatCell = latCell(maxLat);
+
+        // Longitude span widens towards the poles; scan the whole band when it covers the globe
+        double widestLat = Math.max(Math.abs(minLat), Math.abs(maxLat));
+        double lonSpan = widestLat >= 89.9 ? 180 : radiusKm / (KM_PER_DEGREE * Math.cos(Math.toRadians(widestLat)));
+        int minLonCell;
+        int lonCellCount;
+        if (lonSpan >= 180) {
+            minLonCell = 0;
+            lonCellCount = LON_CELLS;
+        } else {
+            minLonCell = (int) Math.floor((longitude - lonSpan + 180) / CELL_DEGREES);
+            lonCellCount = Math.min(LON_CELLS, (int) Math.floor((longitude + lonSpan + 180) / CELL_DEGREES) - minLonCell + 1);
+        }
+
+        lock.readLock().lock();
+        try {
+            for (int latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+                for (int i = 0; i < lonCellCount; i++) {
+                    Cell cell = cells.get(cellKey(latCell, Math.floorMod(minLonCell + i, LON_CELLS)));
+                    if (cell == null) {
+                        continue;
+                    }
+                    for (int slot = 0; slot < cell.size; slot++) {
+                        double distance = haversineKm(queryLat, queryLon, queryCos,
+                                cell.latRad[slot], cell.lonRad[slot], cell.cosLat[slot]);
+                        if (distance > radiusKm) {
+                            continue;
+                        }
+                        Hit hit = new Hit(cell.ids[slot], distance, cell.epochDays[slot]);
+                        if (top.size() < limit) {
+                            top.offer(hit);
+                        } else if (best.compare(hit, top.peek()) < 0) {
+                            top.poll();
+                            top.offer(hit);
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Hit> hits = new ArrayList<>(top);
+        hits.sort(best);
+        return hits;
+    }
+
+    /**
+     * Great-circle distance between two points in kilometres.
+     *
+     * @return Distance in kilometres.
+     */
+    public static double distanceKm(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double lat1 = Math.toRadians(latitude1);
+        double lat2 = Math.toRadians(latitude2);
+        return haversineKm(lat1, Math.toRadians(longitude1), Math.cos(lat1), lat2, Math.toRadians(longitude2), Math.cos(lat2));
+    }
+
+    private static double haversineKm(double lat1, double lon1, double cos1, double lat2, double lon2, double cos2) {
+        double sinLat = Math.sin((lat2 - lat1) / 2);
+        double sinLon = Math.sin((lon2 - lon1) / 2);
+        double a = sinLat * sinLat + cos1 * cos2 * sinLon * sinLon;
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private void putLocked(Long taskId, double latitude, double longitude, LocalDate eventDate) {
+        int key = cellKey(latCell(latitude), lonCell(longitude));
+        cells.computeIfAbsent(key, k -> new Cell()).add(taskId, latitude, longitude, eventDate.toEpochDay());
+        cellOfTask.put(taskId, key);
+    }
+
+    private void removeLocked(Long taskId) {
+        Integer key = cellOfTask.remove(taskId);
+        if (key == null) {
+            return;
+        }
+        Cell cell = cells.get(key);
+        cell.remove(taskId);
+        if (cell.size == 0) {
+            cells.remove(key);
+        }
+    }
+
+    private static int latCell(double latitude) {
+        return Math.min(LAT_CELLS - 1, (int) Math.floor((latitude + 90) / CELL_DEGREES));
+    }
+
+    private static int lonCell(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180) / CELL_DEGREES), LON_CELLS);
+    }
+
+    private static int cellKey(int latCell, int lonCell) {
+        return latCell * LON_CELLS + lonCell;
+    }
+
+    /**
+     * A task within the search radius.
+     */
+    public static final class Hit {
+        private final long taskId;
+        private final double distanceKm;
+        private final long epochDay;
+
+        Hit(long taskId, double distanceKm, long epochDay) {
+            this.taskId = taskId;
+            this.distanceKm = distanceKm;
+            this.epochDay = epochDay;
+        }
+
+        public long getTaskId() {
+            return taskId;
+        }
+
+        public double getDistanceKm() {
+            return distanceKm;
+        }
+
+        public long getEpochDay() {
+            return epochDay;
+        }
+    }
+
+    /**
+     * Tasks of one grid cell, stored in parallel arrays for fast scanning.
+     */
+    private static final class Cell {
+        private long[] ids = new long[4];
+        private double[] latRad = new double[4];
+        private double[] lonRad = new double[4];
+        private double[] cosLat = new double[4];
+        private long[] epochDays = new long[4];
+        private int size;
+        private final Map<Long, Integer> slots = new HashMap<>(); // task ID -> array slot
+
+        void add(long taskId, double latitude, double longitude, long epochDay) {
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                latRad = Arrays.copyOf(latRad, capacity);
+                lonRad = Arrays.copyOf(lonRad, capacity);
+                cosLat = Arrays.copyOf(cosLat, capacity);
+                epochDays = Arrays.copyOf(epochDays, capacity);
+            }
+            double lat = Math.toRadians(latitude);
+            ids[size] = taskId;
+            latRad[size] = lat;
+            lonRad[size] = Math.toRadians(longitude);
+            cosLat[size] = Math.cos(lat);
+            epochDays[size] = epochDay;
+            slots.put(taskId, size);
+            size++;
+        }
+
+        void remove(long taskId) {
+            Integer slot = slots.remove(taskId);
+            if (slot == null) {
+                return;
+            }
+            int last = --size;
+            if (slot != last) {
+                // Move the last entry into the freed slot
+                ids[slot] = ids[last];
+                latRad[slot] = latRad[last];
+                lonRad[slot] = lonRad[last];
+                cosLat[slot] = cosLat[last];
+                epochDays[slot] = epochDays[last];
+                slots.put(ids[slot], slot);
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.volunteer_platform.service;
+
+import com.example.volunteer_platform.enums.TaskStatus;
+import com.example.volunteer_platform.model.Task;
+import com.example.volunteer_platform.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * TaskLifecycleService moves open tasks to ENDED once their application deadline has passed.
+ * Upcoming deadlines are kept in a sorted set, so a scheduled tick only queries the database when a deadline
+ * is due. Expired tasks are found by keyset batches of IDs and ended with one UPDATE per batch.
+ */
+@Service
+public class TaskLifecycleService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskLifecycleService.class);
+
+    private static final Set<TaskStatus> OPEN_STATUSES = EnumSet.of(TaskStatus.AVAILABLE, TaskStatus.FILLED);
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+
+    @Autowired
+    private SkillMatchingService skillMatchingService;
+
+    @Autowired
+    private SignupCapacityGuard signupCapacityGuard;
+
+    @Autowired
+    private TaskGeoIndex taskGeoIndex;
+
+    @Autowired
+    private TaskCalendarIndex taskCalendarIndex;
+
+    @Value("${tasks.lifecycle.batch-size:1000}")
+    private int batchSize;
+
+    private final ConcurrentSkipListSet<LocalDate> pendingDeadlines = new ConcurrentSkipListSet<>();
+
+    /**
+     * End the tasks that expired while the application was down and load the upcoming deadlines.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        endExpiredTasks();
+        reloadDeadlines();
+    }
+
+    /**
+     * End tasks whose application deadline was yesterday or earlier, if any such deadline is pending.
+     */
+    @Scheduled(cron = "${tasks.lifecycle.cron:0 0 0 * * *}")
+    public void tick() {
+        LocalDate today = LocalDate.now();
+        if (pendingDeadlines.isEmpty() || !pendingDeadlines.first().isBefore(today)) {
+            return;
+        }
+        endExpiredTasks();
+        reloadDeadlines();
+    }
+
+    /**
+     * Track the application deadline of a new or updated task.
+     *
+     * @param task Task with its current status and deadline.
+     */
+    public void register(Task task) {
+        if (task.getApplicationDeadline() != null && OPEN_STATUSES.contains(task.getStatus())) {
+            pendingDeadlines.add(task.getApplicationDeadline());
+        }
+    }
+
+    /**
+     * Move every open task whose application deadline has passed to ENDED.
+     *
+     * @return Number of tasks ended.
+     */
+    public int endExpiredTasks() {
+        LocalDate today = LocalDate.now();
+        int ended = 0;
+        long cursor = 0;
+        while (true) {
+            List<Long> taskIds = taskRepository.findIdsWithApplicationDeadlineBefore(OPEN_STATUSES, today, cursor,
+                    PageRequest.of(0, batchSize));
+            if (taskIds.isEmpty()) {
+                break;
+            }
+            cursor = taskIds.get(taskIds.size() - 1);
+
+            ended += taskRepository.updateStatusIn(taskIds, OPEN_STATUSES, TaskStatus.ENDED, LocalDateTime.now());
+            taskSearchIndex.updateStatus(taskIds, TaskStatus.ENDED);
+            skillMatchingService.removeTasks(taskIds);
+            taskGeoIndex.removeAll(taskIds);
+            taskCalendarIndex.removeAll(taskIds);
+            signupCapacityGuard.forget(taskIds);
+
+            if (taskIds.size() < batchSize) {
+                break;
+            }
+        }
+        if (ended > 0) {
+            log.info("Ended {} tasks past their application deadline", ended);
+        }
+        return ended;
+    }
+
+    private void reloadDeadlines() {
+        List<LocalDate> deadlines = taskRepository.findApplicationDeadlinesFrom(OPEN_STATUSES, LocalDate.now());
+        pendingDeadlines.clear();
+        pendingDeadlines.addAll(deadlines);
+    }
+}
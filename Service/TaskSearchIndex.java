@@ -0,0 +1,292 @@
+package com.example.volunteer_platform.service;
+
+import com.example.volunteer_platform.enums.TaskStatus;
+import com.example.volunteer_platform.model.Skill;
+import com.example.volunteer_platform.model.Task;
+import com.example.volunteer_platform.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * In-memory inverted index over task title, description, location and skills, with each task's status for filtering.
+ * Kept in sync by TaskService on save and delete, and rebuilt from the database at startup.
+ */
+@Component
+public class TaskSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskSearchIndex.class);
+
+    private static final int TITLE_WEIGHT = 4;
+    private static final int SKILL_WEIGHT = 3;
+    private static final int LOCATION_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final int REBUILD_PAGE_SIZE = 500;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Documents documents = new Documents(); // Guarded by the lock
+    private List<Consumer<Documents>> writesDuringRebuild; // Replayed on the rebuilt index; null when no rebuild runs
+
+    /**
+     * Rebuild the index from all tasks in the database, one page at a time.
+     * The new index is built aside and swapped in at the end, so searches keep using the complete current index,
+     * and changes made meanwhile are replayed on the new one.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            writesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        Documents rebuilt = new Documents();
+        int indexed = 0;
+        try {
+            long cursor = 0L;
+            while (true) {
+                final long after = cursor;
+                List<Task> page = transactionTemplate.execute(status -> {
+                    List<Task> tasks = taskRepository.findByIdGreaterThanOrderByIdAsc(after, PageRequest.of(0, REBUILD_PAGE_SIZE));
+                    tasks.forEach(task -> rebuilt.put(task.getId(), termsOf(task), task.getStatus()));
+                    return tasks;
+                });
+                if (page == null || page.isEmpty()) {
+                    break;
+                }
+                indexed += page.size();
+                cursor = page.get(page.size() - 1).getId();
+            }
+        } catch (RuntimeException e) {
+            finishRebuild(null); // Keep the current index
+            throw e;
+        }
+        finishRebuild(rebuilt);
+        log.info("Task search index built with {} tasks", indexed);
+    }
+
+    /**
+     * Add or replace a task in the index.
+     *
+     * @param task Task to index. Its skills must be loadable.
+     */
+    public void index(Task task) {
+        if (task.getId() == null) {
+            return;
+        }
+        Long taskId = task.getId();
+        Map<String, Integer> terms = termsOf(task);
+        TaskStatus status = task.getStatus();
+        write(index -> index.put(taskId, terms, status));
+    }
+
+    /**
+     * Remove a task from the index.
+     *
+     * @param taskId Task ID.
+     */
+    public void remove(Long taskId) {
+        write(index -> index.remove(taskId));
+    }
+
+    /**
+     * Record a status change for a set of indexed tasks.
+     *
+     * @param taskIds Task IDs.
+     * @param status New status.
+     */
+    public void updateStatus(Collection<Long> taskIds, TaskStatus status) {
+        List<Long> changed = List.copyOf(taskIds);
+        write(index -> changed.forEach(taskId -> index.documentStatus.replace(taskId, status)));
+    }
+
+    /**
+     * Search the index and rank tasks by how many query terms they match, then by weighted TF-IDF score.
+     *
+     * @param query Free-text query.
+     * @param limit Maximum number of task IDs to return.
+     * @return Task IDs ordered from best to worst match.
+     */
+    public List<Long> search(String query, int limit) {
+        return search(query, null, limit);
+    }
+
+    /**
+     * Search the index for tasks with a given status.
+     *
+     * @param query Free-text query.
+     * @param status Only return tasks with this status, or null for all tasks.
+     * @param limit Maximum number of task IDs to return.
+     * @return Task IDs ordered from best to worst match.
+     */
+    public List<Long> search(String query, TaskStatus status, int limit) {
+        Set<String> queryTerms = new LinkedHashSet<>(tokenize(query));
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, double[]> scores = new HashMap<>(); // task ID -> {matched terms, score}
+        lock.readLock().lock();
+        try {
+            Map<Long, TaskStatus> documentStatus = documents.documentStatus;
+            int documentCount = documents.documentTerms.size();
+            for (String term : queryTerms) {
+                Map<Long, Integer> termPostings = documents.postings.get(term);
+                if (termPostings == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (double) documentCount / termPostings.size());
+                for (Map.Entry<Long, Integer> posting : termPostings.entrySet()) {
+                    if (status != null && documentStatus.get(posting.getKey()) != status) {
+                        continue;
+                    }
+                    double[] score = scores.computeIfAbsent(posting.getKey(), id -> new double[2]);
+                    score[0]++;
+                    score[1] += posting.getValue() * idf;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        PriorityQueue<Map.Entry<Long, double[]>> top = new PriorityQueue<>(limit + 1, TaskSearchIndex::compareScores);
+        for (Map.Entry<Long, double[]> entry : scores.entrySet()) {
+            top.offer(entry);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        List<Long> ranked = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            ranked.add(top.poll().getKey());
+        }
+        Collections.reverse(ranked);
+        return ranked;
+    }
+
+    private void write(Consumer<Documents> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(documents);
+            if (writesDuringRebuild != null) {
+                writesDuringRebuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void finishRebuild(Documents rebuilt) {
+        lock.writeLock().lock();
+        try {
+            if (rebuilt != null) {
+                writesDuringRebuild.forEach(change -> change.accept(rebuilt));
+                documents = rebuilt;
+            }
+            writesDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static Map<String, Integer> termsOf(Task task) {
+        Map<String, Integer> terms = new HashMap<>();
+        addTerms(terms, task.getTitle(), TITLE_WEIGHT);
+        addTerms(terms, task.getDescription(), DESCRIPTION_WEIGHT);
+        addTerms(terms, task.getLocation(), LOCATION_WEIGHT);
+        if (task.getSkills() != null) {
+            for (Skill skill : task.getSkills()) {
+                addTerms(terms, skill.getName(), SKILL_WEIGHT);
+            }
+        }
+        return terms;
+    }
+
+    private static int compareScores(Map.Entry<Long, double[]> a, Map.Entry<Long, double[]> b) {
+        int byMatches = Double.compare(a.getValue()[0], b.getValue()[0]);
+        if (byMatches != 0) {
+            return byMatches;
+        }
+        int byScore = Double.compare(a.getValue()[1], b.getValue()[1]);
+        return byScore != 0 ? byScore : Long.compare(b.getKey(), a.getKey()); // Older tasks win ties
+    }
+
+    private static void addTerms(Map<String, Integer> terms, String text, int weight) {
+        for (String term : tokenize(text)) {
+            terms.merge(term, weight, Integer::sum);
+        }
+    }
+
+    private static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Postings and per-task data of one generation of the index. Only accessed under the lock, or by the
+     * rebuild that owns it before it is swapped in.
+     */
+    private static final class Documents {
+        private final Map<String, Map<Long, Integer>> postings = new HashMap<>(); // term -> (task ID -> weighted frequency)
+        private final Map<Long, Set<String>> documentTerms = new HashMap<>(); // task ID -> indexed terms, used for removal
+        private final Map<Long, TaskStatus> documentStatus = new HashMap<>(); // task ID -> status
+
+        private void put(Long taskId, Map<String, Integer> terms, TaskStatus status) {
+            remove(taskId);
+            for (Map.Entry<String, Integer> term : terms.entrySet()) {
+                postings.computeIfAbsent(term.getKey(), key -> new HashMap<>()).put(taskId, term.getValue());
+            }
+            documentTerms.put(taskId, terms.keySet());
+            documentStatus.put(taskId, status);
+        }
+
+        private void remove(Long taskId) {
+            Set<String> terms = documentTerms.remove(taskId);
+            documentStatus.remove(taskId);
+            if (terms == null) {
+                return;
+            }
+            for (String term : terms) {
+                Map<Long, Integer> termPostings = postings.get(term);
+                if (termPostings != null) {
+                    termPostings.remove(taskId);
+                    if (termPostings.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+        }
+    }
+}
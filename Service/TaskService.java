@@ -1,13 +1,31 @@
 package com.example.volunteer_platform.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.example.volunteer_platform.config.BulkDeleteMetrics;
+import com.example.volunteer_platform.dto.BulkDeleteResult;
+import com.example.volunteer_platform.dto.CursorPage;
+import com.example.volunteer_platform.dto.NearbyTaskDto;
+import com.example.volunteer_platform.dto.TaskSummaryDto;
+import com.example.volunteer_platform.enums.TaskStatus;
 import com.example.volunteer_platform.model.Task;
 import com.example.volunteer_platform.repository.TaskRepository;
+import java.io.IOException;
+import java.io.OutputStream;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * TaskService provides methods to manage tasks in the system.
@@ -15,9 +33,36 @@ import java.util.Optional;
 @Service
 public class TaskService {
 
+    private static final Set<String> SELECTABLE_FIELDS = Set.of("id", "title", "description", "location", "eventDate",
+            "cancellationDeadline", "applicationDeadline", "createdAt", "updatedAt", "status", "capacity");
+
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+
+    @Autowired
+    private TaskSignupService taskSignupService;
+
+    @Autowired
+    private SkillMatchingService skillMatchingService;
+
+    @Autowired
+    private TaskLifecycleService taskLifecycleService;
+
+    @Autowired
+    private TaskGeoIndex taskGeoIndex;
+
+    @Autowired
+    private TaskCalendarIndex taskCalendarIndex;
+
+    @Autowired
+    private JsonStreamingService jsonStreamingService;
+
+    @Autowired
+    private BulkDeleteMetrics bulkDeleteMetrics;
+
     /**
      * Get all tasks in the system.
      *
@@ -27,13 +72,106 @@ public class TaskService {
         return taskRepository.findAll();
     }
 
+    /**
+     * Write all tasks to a stream as a JSON array, ordered by ID, without loading them all at once.
+     *
+     * @param out Response body.
+     * @throws IOException If writing to the response fails.
+     */
+    public void writeAllTasks(OutputStream out) throws IOException {
+        jsonStreamingService.writeArray(taskRepository::findByIdGreaterThanOrderByIdAsc, Task::getId, out);
+    }
+
+    /**
+     * Get the tasks taking place in a date range, ordered by event date and ID.
+     * Available tasks in the upcoming window are served from the calendar index.
+     *
+     * @param from First event date, inclusive.
+     * @param to Last event date, inclusive.
+     * @param status Only return tasks with this status, or null for all tasks.
+     * @param limit Maximum number of tasks to return.
+     * @return List of tasks in the range.
+     */
+    public List<Task> getTasksByEventDate(LocalDate from, LocalDate to, TaskStatus status, int limit) {
+        if (status == TaskStatus.AVAILABLE && taskCalendarIndex.covers(from, to)) {
+            List<Long> taskIds = taskCalendarIndex.findTaskIds(from, to, limit);
+            return taskIds.isEmpty() ? List.of() : taskRepository.findAllByIdInOrder(taskIds);
+        }
+        PageRequest page = PageRequest.of(0, limit);
+        if (status == null) {
+            return taskRepository.findByEventDateBetweenOrderByEventDateAscIdAsc(from, to, page);
+        }
+        return taskRepository.findByStatusAndEventDateBetweenOrderByEventDateAscIdAsc(status, from, to, page);
+    }
+
+    /**
+     * Get one page of tasks, ordered by ID.
+     *
+     * @param cursor ID of the last task from the previous page, or null for the first page.
+     * @param size Maximum number of tasks to return.
+     * @param status Only return tasks with this status, or null for all tasks.
+     * @return Page of tasks with the cursor for the next page.
+     */
+    public CursorPage<Task> getTaskPage(Long cursor, int size, TaskStatus status) {
+        int pageSize = CursorPage.clampSize(size);
+        long after = cursor != null ? cursor : 0L;
+        List<Task> rows = status == null
+                ? taskRepository.findByIdGreaterThanOrderByIdAsc(after, PageRequest.of(0, pageSize + 1))
+                : taskRepository.findByStatusAndIdGreaterThanOrderByIdAsc(status, after, PageRequest.of(0, pageSize + 1));
+        return CursorPage.of(rows, pageSize, Task::getId);
+    }
+
+    /**
+     * Get one page of tasks with only the requested fields, ordered by ID.
+     * The ID is always included because it is the page cursor.
+     *
+     * @param fields Comma-separated task field names.
+     * @param cursor ID of the last task from the previous page, or null for the first page.
+     * @param size Maximum number of tasks to return.
+     * @param status Only return tasks with this status, or null for all tasks.
+     * @return Page of partial tasks with the cursor for the next page.
+     * @throws IllegalArgumentException if a field is unknown or not selectable.
+     */
+    public CursorPage<Map<String, Object>> getTaskFieldsPage(String fields, Long cursor, int size, TaskStatus status) {
+        List<String> selected = new ArrayList<>();
+        selected.add("id");
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (!SELECTABLE_FIELDS.contains(name)) {
+                throw new IllegalArgumentException("Unknown task field: " + name);
+            }
+            if (!selected.contains(name)) {
+                selected.add(name);
+            }
+        }
+        int pageSize = CursorPage.clampSize(size);
+        List<Map<String, Object>> rows = taskRepository.findFieldsByIdGreaterThan(
+                selected, status, cursor != null ? cursor : 0L, pageSize + 1);
+        return CursorPage.of(rows, pageSize, row -> (Long) row.get("id"));
+    }
+
+    /**
+     * Get summaries of all tasks owned by an organization.
+     *
+     * @param organizationId Organization ID.
+     * @return List of task summaries.
+     */
+    public List<TaskSummaryDto> getOrganizationTaskSummaries(Long organizationId) {
+        return taskRepository.findSummariesByOrganizationId(organizationId);
+    }
+
     /**
      * Create a new task associated with an organization.
      *
      * @param task Task to be saved.
      */
     public void saveTask(Task task) {
-        taskRepository.save(task);
+        Task saved = taskRepository.save(task);
+        taskSearchIndex.index(saved);
+        skillMatchingService.updateTask(saved);
+        taskGeoIndex.update(saved);
+        taskCalendarIndex.update(saved);
+        taskLifecycleService.register(saved);
     }
 
     /**
@@ -47,31 +185,99 @@ public class TaskService {
     }
 
     /**
-     * Delete a task by its ID.
+     * Delete a task, its organization link and its signups in one transaction.
      *
      * @param taskId Task ID.
+     * @return Row counts removed.
      */
-    public void deleteByTaskId(Long taskId) {
-        taskRepository.deleteById(taskId);
+    @Transactional
+    public BulkDeleteResult deleteTaskWithSignups(Long taskId) {
+        BulkDeleteResult result = deleteTasksWithSignups(List.of(taskId));
+        bulkDeleteMetrics.record("task", result);
+        return result;
     }
 
     /**
-     * Search tasks by title, location, or description.
+     * Delete a set of tasks, their organization links and all their signups with a fixed number of statements.
+     * The in-memory indexes drop the tasks only after commit, so a rollback leaves them searchable.
      *
-     * @param title Title of the task.
-     * @param location Location of the task.
-     * @param description Description of the task.
-     * @return List of tasks matching the search criteria.
+     * @param taskIds Task IDs.
+     * @return Row counts removed.
      */
-    public List<Task> searchTasks(String title, String location, String description) {
-        if (title != null) {
-            return taskRepository.findByTitleContaining(title);
-        } else if (location != null) {
-            return taskRepository.findByLocationContaining(location);
-        } else if (description != null) {
-            return taskRepository.findByDescriptionContaining(description);
-        } else {
-            return taskRepository.findAll();
+    @Transactional
+    public BulkDeleteResult deleteTasksWithSignups(Collection<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return new BulkDeleteResult();
+        }
+        int signupsDeleted = taskSignupService.deleteByTaskIds(taskIds);
+        taskRepository.unlinkFromOrganizations(taskIds);
+        int tasksDeleted = taskRepository.deleteByIdIn(taskIds);
+        afterCommit(() -> {
+            taskIds.forEach(taskSearchIndex::remove);
+            skillMatchingService.removeTasks(taskIds);
+            taskGeoIndex.removeAll(taskIds);
+            taskCalendarIndex.removeAll(taskIds);
+        });
+        return new BulkDeleteResult(0, tasksDeleted, signupsDeleted);
+    }
+
+    /**
+     * Search tasks across title, description, location and required skills.
+     *
+     * @param query Free-text search query.
+     * @param status Only return tasks with this status, or null for all tasks.
+     * @param limit Maximum number of tasks to return.
+     * @return List of tasks ordered by relevance.
+     */
+    public List<Task> searchTasks(String query, TaskStatus status, int limit) {
+        List<Long> rankedIds = taskSearchIndex.search(query, status, limit);
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+        return taskRepository.findAllByIdInOrder(rankedIds);
+    }
+
+    /**
+     * Find available tasks within a radius of a point.
+     *
+     * @param latitude Latitude of the search point in degrees.
+     * @param longitude Longitude of the search point in degrees.
+     * @param radiusKm Search radius in kilometres.
+     * @param limit Maximum number of tasks to return.
+     * @param order Result order.
+     * @return Nearby tasks with their distance, in the requested order.
+     */
+    public List<NearbyTaskDto> findNearbyTasks(double latitude, double longitude, double radiusKm, int limit,
+                                               TaskGeoIndex.SortOrder order) {
+        List<TaskGeoIndex.Hit> hits = taskGeoIndex.findNearby(latitude, longitude, radiusKm, limit, order);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        List<Long> taskIds = new ArrayList<>(hits.size());
+        hits.forEach(hit -> taskIds.add(hit.getTaskId()));
+        Map<Long, Task> tasksById = new HashMap<>();
+        taskRepository.findAllByIdInOrder(taskIds).forEach(task -> tasksById.put(task.getId(), task));
+
+        List<NearbyTaskDto> nearby = new ArrayList<>(hits.size());
+        for (TaskGeoIndex.Hit hit : hits) {
+            Task task = tasksById.get(hit.getTaskId());
+            if (task != null) {
+                nearby.add(new NearbyTaskDto(TaskSummaryDto.from(task), hit.getDistanceKm()));
+            }
+        }
+        return nearby;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
         }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 }
@@ -1,16 +1,37 @@
 package com.example.volunteer_platform.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.example.volunteer_platform.dto.CursorPage;
+import com.example.volunteer_platform.dto.SignupEventPayload;
+import com.example.volunteer_platform.dto.SignupOutcome;
+import com.example.volunteer_platform.dto.TaskSignupViewDto;
+import com.example.volunteer_platform.enums.OutboxEventType;
+import com.example.volunteer_platform.enums.SignupResult;
+import com.example.volunteer_platform.enums.TaskStatus;
+import com.example.volunteer_platform.model.Task;
 import com.example.volunteer_platform.model.TaskSignup;
+import com.example.volunteer_platform.model.Volunteer;
+import com.example.volunteer_platform.repository.TaskRepository;
 import com.example.volunteer_platform.repository.TaskSignupRepository;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * TaskSignupService provides methods to manage task signups in the system.
+ * Every signup created or removed one at a time records an outbox event in the same transaction.
  */
 @Service
 public class TaskSignupService {
@@ -18,6 +39,36 @@ public class TaskSignupService {
     @Autowired
     private TaskSignupRepository taskSignupRepository;
 
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private SignupCapacityGuard signupCapacityGuard;
+
+    @Autowired
+    private SkillMatchingService skillMatchingService;
+
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+
+    @Autowired
+    private TaskGeoIndex taskGeoIndex;
+
+    @Autowired
+    private TaskCalendarIndex taskCalendarIndex;
+
+    @Autowired
+    private SignupStatsService signupStatsService;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JsonStreamingService jsonStreamingService;
+
     /**
      * Get all available task signups.
      *
@@ -27,6 +78,31 @@ public class TaskSignupService {
         return taskSignupRepository.findAll();
     }
 
+    /**
+     * Write all task signups to a stream as a JSON array, ordered by signup ID, without loading them all at once.
+     *
+     * @param out Response body.
+     * @throws IOException If writing to the response fails.
+     */
+    public void writeAllSignups(OutputStream out) throws IOException {
+        jsonStreamingService.writeArray(taskSignupRepository::findBySignupIdGreaterThanOrderBySignupIdAsc,
+                TaskSignup::getSignupId, out);
+    }
+
+    /**
+     * Get one page of task signups, ordered by signup ID.
+     *
+     * @param cursor ID of the last signup from the previous page, or null for the first page.
+     * @param size Maximum number of signups to return.
+     * @return Page of task signups with the cursor for the next page.
+     */
+    public CursorPage<TaskSignup> getSignupPage(Long cursor, int size) {
+        int pageSize = CursorPage.clampSize(size);
+        List<TaskSignup> rows = taskSignupRepository.findBySignupIdGreaterThanOrderBySignupIdAsc(
+                cursor != null ? cursor : 0L, PageRequest.of(0, pageSize + 1));
+        return CursorPage.of(rows, pageSize, TaskSignup::getSignupId);
+    }
+
     /**
      * Get all signups for a specific volunteer.
      *
@@ -37,6 +113,16 @@ public class TaskSignupService {
         return taskSignupRepository.findByVolunteerId(volunteerId);
     }
 
+    /**
+     * Get slim views of all signups for a specific volunteer.
+     *
+     * @param volunteerId Volunteer ID.
+     * @return List of signup views for the volunteer.
+     */
+    public List<TaskSignupViewDto> getUserSignupViews(Long volunteerId) {
+        return taskSignupRepository.findViewsByVolunteerId(volunteerId);
+    }
+
     /**
      * Get all signups for a specific task.
      *
@@ -47,6 +133,16 @@ public class TaskSignupService {
         return taskSignupRepository.findByTaskId(taskId);
     }
 
+    /**
+     * Get slim views of all signups for a specific task.
+     *
+     * @param taskId Task ID.
+     * @return List of signup views for the task.
+     */
+    public List<TaskSignupViewDto> getTaskSignupViews(Long taskId) {
+        return taskSignupRepository.findViewsByTaskId(taskId);
+    }
+
     /**
      * Find a task signup by its ID.
      *
@@ -69,20 +165,195 @@ public class TaskSignupService {
     }
 
     /**
-     * Save a task signup to the database.
+     * Save a task signup to the database, recording a SIGNUP_CREATED event if it is new.
      *
      * @param taskSignup Task signup to be saved.
      */
+    @Transactional
     public void save(TaskSignup taskSignup) {
+        boolean created = taskSignup.getSignupId() == null;
         taskSignupRepository.save(taskSignup);
+        if (created) {
+            recordEvent(OutboxEventType.SIGNUP_CREATED, taskSignup);
+        }
+    }
+
+    /**
+     * Sign up a volunteer for a task, enforcing the task's capacity.
+     * Capacity is checked against an in-memory slot counter, duplicates are rejected by the
+     * unique constraint on (task_id, user_id), and once the counter reaches capacity the task
+     * is flipped to FILLED with a conditional update, so the transition happens exactly once.
+     *
+     * @param task Task to sign up for.
+     * @param volunteer Volunteer signing up.
+     * @return Outcome with the created or existing signup.
+     */
+    public SignupOutcome signUp(Task task, Volunteer volunteer) {
+        if (task.getStatus() == TaskStatus.FILLED) {
+            return new SignupOutcome(SignupResult.TASK_FULL, null);
+        }
+        if (task.getStatus() != TaskStatus.AVAILABLE) {
+            return new SignupOutcome(SignupResult.NOT_OPEN, null);
+        }
+        Optional<TaskSignup> existingSignup = taskSignupRepository.findByTaskIdAndVolunteerId(task.getId(), volunteer.getId());
+        if (existingSignup.isPresent()) {
+            return new SignupOutcome(SignupResult.ALREADY_SIGNED_UP, existingSignup.get());
+        }
+
+        Integer capacity = task.getCapacity();
+        if (capacity != null) {
+            int slot = signupCapacityGuard.tryAcquire(task.getId(), capacity, () -> taskSignupRepository.countByTaskId(task.getId()));
+            if (slot < 0) {
+                fillIfFull(task, capacity); // In case the filling signup did not flip it
+                return new SignupOutcome(SignupResult.TASK_FULL, null);
+            }
+        }
+
+        TaskSignup taskSignup = TaskSignup.builder()
+                .task(task)
+                .volunteer(volunteer)
+                .build();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                taskSignupRepository.saveAndFlush(taskSignup);
+                recordEvent(OutboxEventType.SIGNUP_CREATED, taskSignup);
+            });
+        } catch (RuntimeException e) {
+            // Nothing was committed, so the slot taken above must be given back whatever the failure
+            if (capacity != null) {
+                signupCapacityGuard.release(task.getId());
+            }
+            if (!(e instanceof DataIntegrityViolationException)) {
+                throw e;
+            }
+            // Lost a race with a concurrent signup by the same volunteer
+            return taskSignupRepository.findByTaskIdAndVolunteerId(task.getId(), volunteer.getId())
+                    .map(signup -> new SignupOutcome(SignupResult.ALREADY_SIGNED_UP, signup))
+                    .orElseThrow(() -> e);
+        }
+
+        signupStatsService.recordSignup(task.getId());
+        if (capacity != null) {
+            fillIfFull(task, capacity);
+        }
+        return new SignupOutcome(SignupResult.CREATED, taskSignup);
+    }
+
+    /**
+     * Cancel a task signup, freeing its slot and reopening the task if it was filled.
+     * Only the caller that actually deletes the row frees the slot and records the event, so concurrent
+     * cancels of the same signup count once.
+     *
+     * @param signup Task signup to cancel.
+     */
+    public void cancel(TaskSignup signup) {
+        Task task = signup.getTask();
+        Boolean deleted = transactionTemplate.execute(status -> {
+            if (taskSignupRepository.deleteBySignupId(signup.getSignupId()) != 1) {
+                return false;
+            }
+            recordEvent(OutboxEventType.SIGNUP_CANCELLED, signup);
+            return true;
+        });
+        if (!Boolean.TRUE.equals(deleted)) {
+            return;
+        }
+        signupStatsService.recordCancellation(task.getId());
+        if (task.getCapacity() != null) {
+            signupCapacityGuard.release(task.getId());
+            changeStatus(task, TaskStatus.FILLED, TaskStatus.AVAILABLE); // The loaded status may be stale
+        }
     }
 
     /**
-     * Delete a task signup by its ID.
+     * Delete a task signup by its ID, recording a SIGNUP_CANCELLED event if it existed.
      *
      * @param signupId Task signup ID.
      */
+    @Transactional
     public void deleteById(Long signupId) {
-        taskSignupRepository.deleteById(signupId);
+        taskSignupRepository.findById(signupId).ifPresent(signup -> {
+            taskSignupRepository.delete(signup);
+            recordEvent(OutboxEventType.SIGNUP_CANCELLED, signup);
+        });
+    }
+
+    /**
+     * Delete all signups for a set of tasks with one statement.
+     *
+     * @param taskIds Task IDs.
+     * @return Number of signups deleted.
+     */
+    @Transactional
+    public int deleteByTaskIds(Collection<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return 0;
+        }
+        int deleted = taskSignupRepository.deleteByTaskIdIn(taskIds);
+        signupCapacityGuard.forget(taskIds);
+        signupStatsService.forgetTasks(taskIds);
+        return deleted;
+    }
+
+    /**
+     * Delete all signups of a volunteer with one statement.
+     * Each task loses one signup from its stats, gives back the volunteer's slot and is reopened if it was
+     * filled; if the transaction rolls back, the slot counters of those tasks are re-seeded from the database.
+     *
+     * @param volunteerId Volunteer ID.
+     * @return Number of signups deleted.
+     */
+    @Transactional
+    public int deleteByVolunteerId(Long volunteerId) {
+        List<Long> taskIds = taskSignupRepository.findTaskIdsByVolunteerId(volunteerId);
+        int deleted = taskSignupRepository.deleteByVolunteerId(volunteerId);
+        taskIds.forEach(signupStatsService::recordCancellation); // One signup per volunteer and task
+        if (taskIds.isEmpty()) {
+            return deleted;
+        }
+        for (Task task : taskRepository.findAllById(taskIds)) {
+            if (task.getCapacity() != null) {
+                signupCapacityGuard.release(task.getId()); // One signup per volunteer and task
+                changeStatus(task, TaskStatus.FILLED, TaskStatus.AVAILABLE);
+            }
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        signupCapacityGuard.forget(taskIds);
+                    }
+                }
+            });
+        }
+        return deleted;
+    }
+
+    private void recordEvent(OutboxEventType eventType, TaskSignup signup) {
+        outboxService.record(eventType, signup.getSignupId(), new SignupEventPayload(signup.getSignupId(),
+                signup.getTask().getId(), signup.getVolunteer().getId(), signup.getSignupDate()));
+    }
+
+    private void fillIfFull(Task task, int capacity) {
+        if (signupCapacityGuard.isFull(task.getId(), capacity)
+                && changeStatus(task, TaskStatus.AVAILABLE, TaskStatus.FILLED)
+                && !signupCapacityGuard.isFull(task.getId(), capacity)) {
+            changeStatus(task, TaskStatus.FILLED, TaskStatus.AVAILABLE); // A cancellation freed a slot meanwhile
+        }
+    }
+
+    private boolean changeStatus(Task task, TaskStatus expected, TaskStatus status) {
+        // A bulk update evicts the whole task cache region, so it is only issued when it can match
+        if (taskRepository.findStatusById(task.getId()) != expected
+                || taskRepository.updateStatusIfCurrent(task.getId(), expected, status, LocalDateTime.now()) != 1) {
+            return false;
+        }
+        task.setStatus(status);
+        skillMatchingService.updateTask(task);
+        taskGeoIndex.update(task);
+        taskCalendarIndex.update(task);
+        taskSearchIndex.updateStatus(List.of(task.getId()), status);
+        return true;
     }
 }
@@ -0,0 +1,120 @@
+package com.example.volunteer_platform.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * Issues and verifies stateless access tokens of the form {@code <userId>.<expiresAt>.<signature>}, where the
+ * signature is an HMAC-SHA256 of the first two parts. Verification needs no database or shared state, so
+ * every instance with the same secret accepts the same tokens.
+ */
+@Service
+public class TokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenService.class);
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec key;
+    private final Duration ttl;
+    private final ThreadLocal<Mac> macs; // Mac instances are not thread-safe and costly to create
+
+    /**
+     * @param secret Signing secret; if blank, a random key is generated and tokens do not survive a restart.
+     * @param ttlMinutes Token lifetime.
+     */
+    public TokenService(@Value("${auth.token.secret:}") String secret,
+                        @Value("${auth.token.ttl-minutes:60}") long ttlMinutes) {
+        byte[] keyBytes;
+        if (secret == null || secret.isBlank()) {
+            keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+            log.warn("auth.token.secret is not set; using a random key, tokens will not survive a restart");
+        } else {
+            keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        this.key = new SecretKeySpec(keyBytes, ALGORITHM);
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    /**
+     * @param issuedAt Time the token is issued.
+     * @return Expiry of a token issued at that time.
+     */
+    public Instant expiryFor(Instant issuedAt) {
+        return issuedAt.plus(ttl).truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    /**
+     * Issue a token for a user.
+     *
+     * @param userId User ID.
+     * @param issuedAt Time the token is issued.
+     * @return Signed token.
+     */
+    public String issue(Long userId, Instant issuedAt) {
+        String payload = userId + "." + expiryFor(issuedAt).getEpochSecond();
+        return payload + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(sign(payload));
+    }
+
+    /**
+     * Check a token's signature and expiry.
+     *
+     * @param token Token from the Authorization header.
+     * @return ID of the user the token was issued to, or null if the token is malformed, forged or expired.
+     */
+    public Long verify(String token) {
+        int signatureStart = token.lastIndexOf('.');
+        int expiryStart = signatureStart > 0 ? token.lastIndexOf('.', signatureStart - 1) : -1;
+        if (expiryStart <= 0) {
+            return null;
+        }
+        String payload = token.substring(0, signatureStart);
+        byte[] signature;
+        try {
+            signature = Base64.getUrlDecoder().decode(token.substring(signatureStart + 1));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (!MessageDigest.isEqual(signature, sign(payload))) {
+            return null;
+        }
+        try {
+            long expiresAt = Long.parseLong(token, expiryStart + 1, signatureStart, 10);
+            if (Instant.now().getEpochSecond() >= expiresAt) {
+                return null;
+            }
+            return Long.parseLong(token, 0, expiryStart, 10);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private byte[] sign(String payload) {
+        return macs.get().doFinal(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + " is not available", e);
+        }
+    }
+}
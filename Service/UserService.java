@@ -1,15 +1,25 @@
 package com.example.volunteer_platform.service;
 
+import com.example.volunteer_platform.config.BulkDeleteMetrics;
+import com.example.volunteer_platform.dto.BulkDeleteResult;
+import com.example.volunteer_platform.dto.CursorPage;
 import com.example.volunteer_platform.model.Organization;
 import com.example.volunteer_platform.model.Volunteer;
 import com.example.volunteer_platform.repository.OrganizationRepository;
+import com.example.volunteer_platform.repository.TaskRepository;
 import com.example.volunteer_platform.repository.VolunteerRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.volunteer_platform.model.User;
 import com.example.volunteer_platform.repository.UserRepository;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +29,8 @@ import java.util.Optional;
 @Service
 public class UserService {
 
+    private static final Logger log = LoggerFactory.getLogger(UserService.class);
+
     @Autowired
     private UserRepository userRepository;
 
@@ -28,6 +40,30 @@ public class UserService {
     @Autowired
     private VolunteerRepository volunteerRepository;
 
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskSignupService taskSignupService;
+
+    @Autowired
+    private SkillMatchingService skillMatchingService;
+
+    @Autowired
+    private PasswordService passwordService;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private JsonStreamingService jsonStreamingService;
+
+    @Autowired
+    private BulkDeleteMetrics bulkDeleteMetrics;
+
     /**
      * Register a new user.
      *
@@ -35,6 +71,12 @@ public class UserService {
      */
     public void saveUser (User user) {
         userRepository.save(user);
+        if (user.getId() != null) {
+            principalCache.invalidate(user.getId());
+        }
+        if (user instanceof Volunteer volunteer) {
+            skillMatchingService.updateVolunteer(volunteer);
+        }
     }
 
     /**
@@ -46,6 +88,30 @@ public class UserService {
         return userRepository.findAll();
     }
 
+    /**
+     * Write all users to a stream as a JSON array, ordered by ID, without loading them all at once.
+     *
+     * @param out Response body.
+     * @throws IOException If writing to the response fails.
+     */
+    public void writeAllUsers(OutputStream out) throws IOException {
+        jsonStreamingService.writeArray(userRepository::findByIdGreaterThanOrderByIdAsc, User::getId, out);
+    }
+
+    /**
+     * Get one page of users, ordered by ID.
+     *
+     * @param cursor ID of the last user from the previous page, or null for the first page.
+     * @param size Maximum number of users to return.
+     * @return Page of users with the cursor for the next page.
+     */
+    public CursorPage<User> getUserPage(Long cursor, int size) {
+        int pageSize = CursorPage.clampSize(size);
+        List<User> rows = userRepository.findByIdGreaterThanOrderByIdAsc(
+                cursor != null ? cursor : 0L, PageRequest.of(0, pageSize + 1));
+        return CursorPage.of(rows, pageSize, User::getId);
+    }
+
     /**
      * Find a user by their email.
      *
@@ -56,6 +122,27 @@ public class UserService {
         return userRepository.findByEmail(email);
     }
 
+    /**
+     * Check a user's email and password. Legacy plaintext passwords and hashes with an outdated work factor
+     * are replaced by a fresh hash on success.
+     *
+     * @param email Email of the user.
+     * @param rawPassword Plaintext password.
+     * @return Optional containing the user if the credentials are valid.
+     */
+    public Optional<User> authenticate(String email, String rawPassword) {
+        User user = userRepository.findByEmail(email);
+        if (!passwordService.matches(rawPassword, user != null ? user.getPassword() : null)) {
+            return Optional.empty();
+        }
+        if (passwordService.needsRehash(user.getPassword())) {
+            user.setPassword(passwordService.hash(rawPassword));
+            userRepository.save(user);
+            log.info("Upgraded password hash of user {}", user.getId());
+        }
+        return Optional.of(user);
+    }
+
     /**
      * Find a user by their ID.
      *
@@ -73,6 +160,46 @@ public class UserService {
      */
     public void deleteUserById(Long id) {
         userRepository.deleteById(id);
+        skillMatchingService.removeVolunteer(id);
+        principalCache.invalidate(id);
+    }
+
+    /**
+     * Delete an organization together with its tasks and their signups in one transaction.
+     * Uses set-based deletes, so the statement count does not grow with the number of tasks.
+     *
+     * @param organizationId Organization ID.
+     * @return Row counts removed.
+     */
+    @Transactional
+    public BulkDeleteResult deleteOrganizationWithTasks(Long organizationId) {
+        List<Long> taskIds = taskRepository.findIdsByOrganizationId(organizationId);
+        int organizationsDeleted = organizationRepository.deleteOrganizationById(organizationId);
+        BulkDeleteResult result = taskService.deleteTasksWithSignups(taskIds);
+        result.setUsersDeleted(organizationsDeleted);
+        principalCache.invalidate(organizationId);
+        log.info("Deleted organization {}: {} tasks, {} signups", organizationId,
+                result.getTasksDeleted(), result.getSignupsDeleted());
+        bulkDeleteMetrics.record("organization", result);
+        return result;
+    }
+
+    /**
+     * Delete a volunteer together with their signups in one transaction.
+     *
+     * @param volunteerId Volunteer ID.
+     * @return Row counts removed.
+     */
+    @Transactional
+    public BulkDeleteResult deleteVolunteerWithSignups(Long volunteerId) {
+        int signupsDeleted = taskSignupService.deleteByVolunteerId(volunteerId);
+        int volunteersDeleted = volunteerRepository.deleteVolunteerById(volunteerId);
+        skillMatchingService.removeVolunteer(volunteerId);
+        principalCache.invalidate(volunteerId);
+        log.info("Deleted volunteer {}: {} signups", volunteerId, signupsDeleted);
+        BulkDeleteResult result = new BulkDeleteResult(volunteersDeleted, 0, signupsDeleted);
+        bulkDeleteMetrics.record("volunteer", result);
+        return result;
     }
 
     /**
@@ -84,6 +211,20 @@ public class UserService {
         return organizationRepository.findAll();
     }
 
+    /**
+     * Get one page of organizations, ordered by ID.
+     *
+     * @param cursor ID of the last organization from the previous page, or null for the first page.
+     * @param size Maximum number of organizations to return.
+     * @return Page of organizations with the cursor for the next page.
+     */
+    public CursorPage<Organization> getOrganizationPage(Long cursor, int size) {
+        int pageSize = CursorPage.clampSize(size);
+        List<Organization> rows = organizationRepository.findByIdGreaterThanOrderByIdAsc(
+                cursor != null ? cursor : 0L, PageRequest.of(0, pageSize + 1));
+        return CursorPage.of(rows, pageSize, Organization::getId);
+    }
+
     /**
      * Get all volunteers in the system.
      *
@@ -93,6 +234,20 @@ public class UserService {
         return volunteerRepository.findAll();
     }
 
+    /**
+     * Get one page of volunteers, ordered by ID.
+     *
+     * @param cursor ID of the last volunteer from the previous page, or null for the first page.
+     * @param size Maximum number of volunteers to return.
+     * @return Page of volunteers with the cursor for the next page.
+     */
+    public CursorPage<Volunteer> getVolunteerPage(Long cursor, int size) {
+        int pageSize = CursorPage.clampSize(size);
+        List<Volunteer> rows = volunteerRepository.findByIdGreaterThanOrderByIdAsc(
+                cursor != null ? cursor : 0L, PageRequest.of(0, pageSize + 1));
+        return CursorPage.of(rows, pageSize, Volunteer::getId);
+    }
+
     /**
      * Find an organization by its ID.
      *
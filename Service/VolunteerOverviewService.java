@@ -0,0 +1,67 @@
+package com.example.volunteer_platform.service;
+
+import com.example.volunteer_platform.dto.SkillMatchDto;
+import com.example.volunteer_platform.dto.TaskSignupViewDto;
+import com.example.volunteer_platform.dto.TaskSummaryDto;
+import com.example.volunteer_platform.dto.VolunteerOverviewDto;
+import com.example.volunteer_platform.model.RatingSummary;
+import com.example.volunteer_platform.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * VolunteerOverviewService assembles the volunteer dashboard from independent reads that run in parallel.
+ */
+@Service
+public class VolunteerOverviewService {
+
+    private static final int RECOMMENDED_TASKS = 5;
+
+    @Autowired
+    private BoundedFanOut boundedFanOut;
+
+    @Autowired
+    private TaskSignupService taskSignupService;
+
+    @Autowired
+    private SkillMatchingService skillMatchingService;
+
+    @Autowired
+    private RatingSummaryService ratingSummaryService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    /**
+     * Load a volunteer's signups, recommended tasks and rating summary.
+     *
+     * @param volunteerId Volunteer ID.
+     * @return Volunteer overview.
+     */
+    public VolunteerOverviewDto getOverview(Long volunteerId) {
+        CompletableFuture<List<TaskSignupViewDto>> signups =
+                boundedFanOut.supply(() -> taskSignupService.getUserSignupViews(volunteerId));
+        CompletableFuture<List<TaskSummaryDto>> recommendedTasks =
+                boundedFanOut.supply(() -> loadRecommendedTasks(volunteerId));
+        CompletableFuture<RatingSummary> rating =
+                boundedFanOut.supply(() -> ratingSummaryService.getSummary(volunteerId.intValue()));
+
+        return new VolunteerOverviewDto(volunteerId, signups.join(), recommendedTasks.join(), rating.join());
+    }
+
+    private List<TaskSummaryDto> loadRecommendedTasks(Long volunteerId) {
+        List<Long> taskIds = skillMatchingService.recommendTasks(volunteerId, RECOMMENDED_TASKS).stream()
+                .map(SkillMatchDto::getId)
+                .collect(Collectors.toList());
+        if (taskIds.isEmpty()) {
+            return List.of();
+        }
+        return taskRepository.findAllByIdInOrder(taskIds).stream()
+                .map(TaskSummaryDto::from)
+                .collect(Collectors.toList());
+    }
+}
@@ -3,8 +3,10 @@ import java.lang.String;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class VolunteerPlatformApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,184 @@
+package com.example.volunteer_platform.benchmark;
+
+import com.example.volunteer_platform.enums.Gender;
+import com.example.volunteer_platform.enums.TaskStatus;
+import com.example.volunteer_platform.model.Skill;
+import com.example.volunteer_platform.model.Task;
+import com.example.volunteer_platform.model.TaskSignup;
+import com.example.volunteer_platform.model.Volunteer;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Deterministic generators for benchmark data. The same seed always produces the same tasks,
+ * volunteers and skills, so runs are comparable across commits.
+ */
+public final class BenchmarkData {
+
+    private static final String[] WORDS = {
+            "food", "bank", "park", "cleanup", "river", "school", "tutoring", "shelter", "animal", "garden",
+            "library", "senior", "care", "meal", "delivery", "clinic", "blood", "drive", "beach", "trail",
+            "coding", "workshop", "mentoring", "festival", "recycling", "housing", "repair", "community", "sports", "camp"
+    };
+    private static final String[] CITIES = {
+            "Pune", "Mumbai", "Nashik", "Nagpur", "Delhi", "Bengaluru", "Chennai", "Hyderabad", "Kolkata", "Jaipur"
+    };
+    private static final double[][] CITY_COORDINATES = { // Latitude and longitude of CITIES, in the same order
+            {18.52, 73.86}, {19.08, 72.88}, {20.00, 73.79}, {21.15, 79.09}, {28.61, 77.21},
+            {12.97, 77.59}, {13.08, 80.27}, {17.39, 78.49}, {22.57, 88.36}, {26.91, 75.79}
+    };
+
+    private final Random random;
+    private final List<Skill> skills;
+
+    /**
+     * @param seed Random seed.
+     * @param skillCount Number of skills in the vocabulary.
+     */
+    public BenchmarkData(long seed, int skillCount) {
+        this.random = new Random(seed);
+        this.skills = new ArrayList<>(skillCount);
+        for (long id = 1; id <= skillCount; id++) {
+            skills.add(new Skill(id, "skill-" + id));
+        }
+    }
+
+    public List<Skill> getSkills() {
+        return skills;
+    }
+
+    /**
+     * Generate tasks with IDs starting at 1, 1 to 5 skills each and a random text.
+     *
+     * @param count Number of tasks.
+     * @return Generated tasks.
+     */
+    public List<Task> tasks(int count) {
+        List<Task> tasks = new ArrayList<>(count);
+        LocalDate today = LocalDate.now();
+        for (long id = 1; id <= count; id++) {
+            Task task = new Task();
+            task.setId(id);
+            task.setTitle(words(3));
+            task.setDescription(words(25));
+            task.setLocation(CITIES[random.nextInt(CITIES.length)]);
+            task.setEventDate(today.plusDays(7 + random.nextInt(180)));
+            task.setApplicationDeadline(task.getEventDate().minusDays(2));
+            task.setCancellationDeadline(task.getEventDate().minusDays(1));
+            task.setCreatedAt(LocalDateTime.now());
+            task.setUpdatedAt(task.getCreatedAt());
+            task.setStatus(TaskStatus.AVAILABLE);
+            task.setSkills(randomSkills(1 + random.nextInt(5)));
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    /**
+     * Generate available tasks with IDs starting at 1 that carry only coordinates and an event date.
+     * Nine in ten tasks are clustered around the cities; the rest are spread across India.
+     *
+     * @param count Number of tasks.
+     * @return Generated tasks.
+     */
+    public List<Task> geoTasks(int count) {
+        List<Task> tasks = new ArrayList<>(count);
+        LocalDate today = LocalDate.now();
+        for (long id = 1; id <= count; id++) {
+            Task task = new Task();
+            task.setId(id);
+            if (random.nextInt(10) < 9) {
+                double[] city = CITY_COORDINATES[random.nextInt(CITY_COORDINATES.length)];
+                task.setLatitude(city[0] + random.nextGaussian() * 0.2);
+                task.setLongitude(city[1] + random.nextGaussian() * 0.2);
+            } else {
+                task.setLatitude(8 + random.nextDouble() * 27);
+                task.setLongitude(69 + random.nextDouble() * 28);
+            }
+            task.setEventDate(today.plusDays(7 + random.nextInt(180)));
+            task.setStatus(TaskStatus.AVAILABLE);
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    /**
+     * @return Coordinates near a random city, as latitude and longitude.
+     */
+    public double[] nearCity() {
+        double[] city = CITY_COORDINATES[random.nextInt(CITY_COORDINATES.length)];
+        return new double[]{city[0] + random.nextGaussian() * 0.1, city[1] + random.nextGaussian() * 0.1};
+    }
+
+    /**
+     * Generate volunteers with IDs starting at 1 and 1 to 8 skills each.
+     *
+     * @param count Number of volunteers.
+     * @return Generated volunteers.
+     */
+    public List<Volunteer> volunteers(int count) {
+        List<Volunteer> volunteers = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            Volunteer volunteer = new Volunteer();
+            volunteer.setId(id);
+            volunteer.setName("Volunteer " + id);
+            volunteer.setEmail("volunteer" + id + "@example.com");
+            volunteer.setPassword("password" + id);
+            volunteer.setPhoneNumber(String.valueOf(9_000_000_000L + id));
+            volunteer.setGender(Gender.values()[random.nextInt(Gender.values().length)]);
+            volunteer.setCreatedAt(LocalDateTime.now());
+            volunteer.setUpdatedAt(volunteer.getCreatedAt());
+            volunteer.setSkills(randomSkills(1 + random.nextInt(8)));
+            volunteers.add(volunteer);
+        }
+        return volunteers;
+    }
+
+    /**
+     * Generate one signup per volunteer, each for a random task.
+     *
+     * @param tasks Tasks to sign up for.
+     * @param volunteers Volunteers signing up.
+     * @return Generated signups.
+     */
+    public List<TaskSignup> signups(List<Task> tasks, List<Volunteer> volunteers) {
+        List<TaskSignup> signups = new ArrayList<>(volunteers.size());
+        long id = 1;
+        for (Volunteer volunteer : volunteers) {
+            signups.add(new TaskSignup(id++, tasks.get(random.nextInt(tasks.size())), volunteer, LocalDateTime.now(), false));
+        }
+        return signups;
+    }
+
+    /**
+     * @return A random query of one to three words from the task vocabulary.
+     */
+    public String query() {
+        return words(1 + random.nextInt(3));
+    }
+
+    private Set<Skill> randomSkills(int count) {
+        Set<Skill> picked = new HashSet<>();
+        while (picked.size() < Math.min(count, skills.size())) {
+            picked.add(skills.get(random.nextInt(skills.size())));
+        }
+        return picked;
+    }
+
+    private String words(int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.volunteer_platform.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load driver for comparing request latency with and without virtual threads.
+ * Each client sends one request at a time, in a loop, for the given duration. Start the application twice,
+ * once with spring.threads.virtual.enabled=false and once with true, and compare the printed percentiles.
+ * Clients run on virtual threads on Java 21 and later, and on one platform thread each otherwise.
+ * <p>
+ * Usage: {@code LoadDriver <base-url> <clients> <seconds> <path> [<path> ...]}, for example
+ * {@code LoadDriver http://localhost:8080 5000 60 /api/tasks/page?size=20 /api/volunteers/1/overview}.
+ */
+public class LoadDriver {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 4) {
+            System.err.println("Usage: LoadDriver <base-url> <clients> <seconds> <path> [<path> ...]");
+            System.exit(2);
+        }
+        String baseUrl = args[0];
+        int clients = Integer.parseInt(args[1]);
+        long durationNanos = Duration.ofSeconds(Long.parseLong(args[2])).toNanos();
+        List<URI> targets = new ArrayList<>();
+        for (int i = 3; i < args.length; i++) {
+            targets.add(URI.create(baseUrl + args[i]));
+        }
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(newClientExecutor())
+                .build();
+        AtomicLong errors = new AtomicLong();
+        AtomicLong rejected = new AtomicLong();
+        long[][] latencies = new long[clients][];
+        long deadline = System.nanoTime() + durationNanos;
+
+        ExecutorService executor = newClientExecutor();
+        try {
+            for (int client = 0; client < clients; client++) {
+                int id = client;
+                executor.submit(() -> {
+                    long[] samples = new long[1024];
+                    int count = 0;
+                    int next = id;
+                    while (System.nanoTime() < deadline) {
+                        HttpRequest request = HttpRequest.newBuilder(targets.get(next++ % targets.size()))
+                                .timeout(Duration.ofSeconds(30))
+                                .GET()
+                                .build();
+                        long start = System.nanoTime();
+                        try {
+                            int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                            if (status == 503) {
+                                rejected.incrementAndGet();
+                            } else if (status >= 500) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        if (count == samples.length) {
+                            samples = Arrays.copyOf(samples, count * 2);
+                        }
+                        samples[count++] = System.nanoTime() - start;
+                    }
+                    latencies[id] = Arrays.copyOf(samples, count);
+                    return null;
+                });
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(durationNanos + TimeUnit.MINUTES.toNanos(1), TimeUnit.NANOSECONDS);
+        }
+
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        double seconds = durationNanos / 1e9;
+        System.out.printf("clients=%d requests=%d throughput=%.0f/s errors=%d rejected(503)=%d%n",
+                clients, all.length, all.length / seconds, errors.get(), rejected.get());
+        System.out.printf("p50=%.1fms p90=%.1fms p99=%.1fms p99.9=%.1fms max=%.1fms%n",
+                percentile(all, 50), percentile(all, 90), percentile(all, 99), percentile(all, 99.9),
+                all.length == 0 ? 0 : all[all.length - 1] / 1e6);
+    }
+
+    private static ExecutorService newClientExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(); // No virtual threads before Java 21
+        }
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.volunteer_platform.benchmark;
+
+import com.example.volunteer_platform.service.PasswordHasher;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures password hashing and verification cost. With one thread, hash throughput is the number of
+ * registrations one core can serve per second; pass {@code -t} to see how it scales with more cores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(1)
+@Fork(1)
+public class PasswordHashingBenchmark {
+
+    @Param({"210000", "600000"})
+    private int iterations;
+
+    private PasswordHasher hasher;
+    private String stored;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        hasher = new PasswordHasher(iterations);
+        stored = hasher.hash("correct horse battery staple");
+    }
+
+    @Benchmark
+    public String register() {
+        return hasher.hash("correct horse battery staple");
+    }
+
+    @Benchmark
+    public boolean login() {
+        return hasher.matches("correct horse battery staple", stored);
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.volunteer_platform.benchmark;
+
+import com.example.volunteer_platform.VolunteerPlatformApplication;
+import com.example.volunteer_platform.dto.CursorPage;
+import com.example.volunteer_platform.dto.SignupOutcome;
+import com.example.volunteer_platform.dto.TaskSignupViewDto;
+import com.example.volunteer_platform.model.Organization;
+import com.example.volunteer_platform.model.Skill;
+import com.example.volunteer_platform.model.Task;
+import com.example.volunteer_platform.model.Volunteer;
+import com.example.volunteer_platform.repository.SkillRepository;
+import com.example.volunteer_platform.repository.VolunteerRepository;
+import com.example.volunteer_platform.service.TaskService;
+import com.example.volunteer_platform.service.TaskSignupService;
+import com.example.volunteer_platform.service.UserService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the service and repository hot paths against an embedded H2 database in MySQL mode,
+ * seeded with generated tasks, volunteers and skills.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryBenchmark {
+
+    private static final int TASKS = 5_000;
+    private static final int VOLUNTEERS = 5_000;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private TaskSignupService taskSignupService;
+    private List<Long> taskIds;
+    private List<Volunteer> volunteers;
+    private String[] queries;
+    private long next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.datasource.url", "jdbc:h2:mem:benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+
+        SpringApplication application = new SpringApplication(VolunteerPlatformApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        application.setDefaultProperties(properties);
+        context = application.run("--spring.main.banner-mode=off");
+
+        taskService = context.getBean(TaskService.class);
+        taskSignupService = context.getBean(TaskSignupService.class);
+        seed(new BenchmarkData(42, 200));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CursorPage<Task> taskPage() {
+        return taskService.getTaskPage(taskIds.get((int) (next++ % taskIds.size())), 50, null);
+    }
+
+    @Benchmark
+    public List<Task> search() {
+        return taskService.searchTasks(queries[(int) (next++ % queries.length)], null, 20);
+    }
+
+    @Benchmark
+    public List<TaskSignupViewDto> taskSignupViews() {
+        return taskSignupService.getTaskSignupViews(taskIds.get((int) (next++ % taskIds.size())));
+    }
+
+    @Benchmark
+    public SignupOutcome signUp() {
+        long n = next++;
+        Task task = taskService.findById(taskIds.get((int) (n % taskIds.size()))).orElseThrow();
+        return taskSignupService.signUp(task, volunteers.get((int) ((n / taskIds.size()) % volunteers.size())));
+    }
+
+    private void seed(BenchmarkData data) {
+        SkillRepository skillRepository = context.getBean(SkillRepository.class);
+        VolunteerRepository volunteerRepository = context.getBean(VolunteerRepository.class);
+        UserService userService = context.getBean(UserService.class);
+
+        Map<Long, Skill> skills = new HashMap<>();
+        for (Skill skill : data.getSkills()) {
+            Skill saved = skillRepository.save(Skill.builder().name(skill.getName()).build());
+            skills.put(skill.getId(), saved);
+        }
+
+        Organization organization = new Organization();
+        organization.setName("Benchmark Organization");
+        organization.setEmail("organization@example.com");
+        organization.setPassword("password");
+        organization.setPhoneNumber("9999999999");
+        organization.setAddress("Benchmark Street");
+        organization.setWebsite("https://example.com");
+        organization.setTasks(new ArrayList<>());
+        userService.saveUser(organization);
+
+        taskIds = new ArrayList<>(TASKS);
+        for (Task task : data.tasks(TASKS)) {
+            task.setId(null);
+            task.setSkills(task.getSkills().stream().map(skill -> skills.get(skill.getId())).collect(Collectors.toSet()));
+            taskService.saveTask(task);
+            taskIds.add(task.getId());
+        }
+
+        volunteers = new ArrayList<>(VOLUNTEERS);
+        for (Volunteer volunteer : data.volunteers(VOLUNTEERS)) {
+            volunteer.setId(null);
+            volunteer.setSkills(volunteer.getSkills().stream().map(skill -> skills.get(skill.getId())).collect(Collectors.toSet()));
+            volunteers.add(volunteerRepository.save(volunteer));
+        }
+
+        queries = new String[1024];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = data.query();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.volunteer_platform.benchmark;
+
+import com.example.volunteer_platform.dto.TaskSignupViewDto;
+import com.example.volunteer_platform.dto.TaskSummaryDto;
+import com.example.volunteer_platform.model.Task;
+import com.example.volunteer_platform.model.TaskSignup;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures Jackson serialization of task and signup listings, as full entity graphs and as slim DTOs.
+ * Run with "-prof gc" to compare allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"100", "1000"})
+    private int rows;
+
+    private ObjectMapper mapper;
+    private List<Task> tasks;
+    private List<TaskSummaryDto> taskSummaries;
+    private List<TaskSignup> signups;
+    private List<TaskSignupViewDto> signupViews;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkData data = new BenchmarkData(42, 200);
+        mapper = new ObjectMapper().registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        tasks = data.tasks(rows);
+        taskSummaries = tasks.stream().map(TaskSummaryDto::from).collect(Collectors.toList());
+        signups = data.signups(tasks, data.volunteers(rows));
+        signupViews = signups.stream().map(TaskSignupViewDto::from).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public byte[] taskEntities() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public byte[] taskSummaries() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(taskSummaries);
+    }
+
+    @Benchmark
+    public byte[] signupEntities() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(signups);
+    }
+
+    @Benchmark
+    public byte[] signupViews() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(signupViews);
+    }
+}
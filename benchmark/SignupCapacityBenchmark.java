@@ -0,0 +1,35 @@
+package com.example.volunteer_platform.benchmark;
+
+import com.example.volunteer_platform.service.SignupCapacityGuard;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures contended slot acquisition on a single hot task, as during a signup rush.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class SignupCapacityBenchmark {
+
+    private static final Long HOT_TASK_ID = 1L;
+
+    private SignupCapacityGuard guard;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        guard = new SignupCapacityGuard();
+    }
+
+    @Benchmark
+    public int acquireAndRelease() {
+        int slot = guard.tryAcquire(HOT_TASK_ID, Integer.MAX_VALUE, () -> 0L);
+        guard.release(HOT_TASK_ID);
+        return slot;
+    }
+}
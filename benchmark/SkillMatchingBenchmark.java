@@ -0,0 +1,46 @@
+package com.example.volunteer_platform.benchmark;
+
+import com.example.volunteer_platform.dto.SkillMatchDto;
+import com.example.volunteer_platform.service.SkillMatchingService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures top-K skill matching in both directions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SkillMatchingBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int volunteerCount;
+
+    private SkillMatchingService matching;
+    private int taskCount;
+    private long next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkData data = new BenchmarkData(42, 200);
+        matching = new SkillMatchingService();
+        taskCount = 10_000;
+        data.tasks(taskCount).forEach(matching::updateTask);
+        data.volunteers(volunteerCount).forEach(matching::updateVolunteer);
+    }
+
+    @Benchmark
+    public List<SkillMatchDto> candidateVolunteers() {
+        return matching.findCandidateVolunteers(1 + (next++ % taskCount), 10);
+    }
+
+    @Benchmark
+    public List<SkillMatchDto> recommendedTasks() {
+        return matching.recommendTasks(1 + (next++ % volunteerCount), 10);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.volunteer_platform.benchmark;
+
+import com.example.volunteer_platform.service.TaskGeoIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures radius queries against the task geo index. Most tasks are clustered around ten cities,
+ * so queries near a city scan dense cells.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class TaskGeoBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int taskCount;
+
+    @Param({"5", "25"})
+    private double radiusKm;
+
+    private TaskGeoIndex index;
+    private double[][] points;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkData data = new BenchmarkData(42, 1);
+        index = new TaskGeoIndex();
+        data.geoTasks(taskCount).forEach(index::update);
+        points = new double[1024][];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = data.nearCity();
+        }
+    }
+
+    @Benchmark
+    public List<TaskGeoIndex.Hit> nearestFirst() {
+        double[] point = points[next++ & (points.length - 1)];
+        return index.findNearby(point[0], point[1], radiusKm, 20, TaskGeoIndex.SortOrder.DISTANCE);
+    }
+
+    @Benchmark
+    public List<TaskGeoIndex.Hit> soonestFirst() {
+        double[] point = points[next++ & (points.length - 1)];
+        return index.findNearby(point[0], point[1], radiusKm, 20, TaskGeoIndex.SortOrder.EVENT_DATE);
+    }
+}
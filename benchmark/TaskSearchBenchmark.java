@@ -0,0 +1,42 @@
+package com.example.volunteer_platform.benchmark;
+
+import com.example.volunteer_platform.service.TaskSearchIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures ranked queries against the in-memory task search index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskSearchBenchmark {
+
+    @Param({"10000", "100000"})
+    private int taskCount;
+
+    private TaskSearchIndex index;
+    private String[] queries;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkData data = new BenchmarkData(42, 200);
+        index = new TaskSearchIndex();
+        data.tasks(taskCount).forEach(index::index);
+        queries = new String[1024];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = data.query();
+        }
+    }
+
+    @Benchmark
+    public List<Long> search() {
+        return index.search(queries[next++ & (queries.length - 1)], 20);
+    }
+}
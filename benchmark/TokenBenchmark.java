@@ -0,0 +1,45 @@
+package com.example.volunteer_platform.benchmark;
+
+import com.example.volunteer_platform.service.TokenService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-request cost of issuing and verifying access tokens.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenBenchmark {
+
+    private TokenService tokens;
+    private String valid;
+    private String forged;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        tokens = new TokenService("benchmark-secret-benchmark-secret", 60);
+        valid = tokens.issue(123456L, Instant.now());
+        forged = valid.substring(0, valid.length() - 2) + (valid.endsWith("AA") ? "BB" : "AA");
+    }
+
+    @Benchmark
+    public String issue() {
+        return tokens.issue(123456L, Instant.now());
+    }
+
+    @Benchmark
+    public Long verifyValid() {
+        return tokens.verify(valid);
+    }
+
+    @Benchmark
+    public Long verifyForged() {
+        return tokens.verify(forged);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.volunteer_platform.config;
+
+import com.example.volunteer_platform.dto.BulkDeleteResult;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records the rows removed by each cascade delete as {@code bulk.delete.rows}, one distribution summary per
+ * table tagged with the operation, so the count, total and maximum rows per call are visible per table.
+ */
+@Component
+public class BulkDeleteMetrics {
+
+    private static final String METRIC = "bulk.delete.rows";
+
+    private final MeterRegistry meterRegistry;
+
+    public BulkDeleteMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Record the row counts of one cascade delete.
+     *
+     * @param operation Name of the delete, e.g. "organization" or "volunteer".
+     * @param result Row counts removed.
+     */
+    public void record(String operation, BulkDeleteResult result) {
+        summary(operation, "user").record(result.getUsersDeleted());
+        summary(operation, "tasks").record(result.getTasksDeleted());
+        summary(operation, "task_signup").record(result.getSignupsDeleted());
+    }
+
+    private DistributionSummary summary(String operation, String table) {
+        return DistributionSummary.builder(METRIC)
+                .description("Rows removed per cascade delete")
+                .baseUnit("rows")
+                .tag("operation", operation)
+                .tag("table", table)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.volunteer_platform.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits the number of API requests handled at once when requests run on virtual threads.
+ * Tomcat no longer caps concurrency by its thread pool in that mode, and with open-session-in-view a request
+ * holds its pooled connection until the response is written while its fan-out calls need connections of their
+ * own, so the limit is capped at the pool size minus the fan-out permits. Requests wait briefly for a permit
+ * and are rejected with HTTP 503 if none frees up. Only paths under server.concurrency.path-prefixes are
+ * limited; actuator endpoints and static front-end files pass straight through.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(ConcurrencyLimitFilter.class);
+
+    private final Semaphore permits;
+    private final long queueTimeoutMillis;
+    private final String[] pathPrefixes;
+
+    public ConcurrencyLimitFilter(@Value("${server.concurrency.max-in-flight:400}") int maxInFlight,
+                                  @Value("${server.concurrency.queue-timeout-ms:500}") long queueTimeoutMillis,
+                                  @Value("${server.concurrency.path-prefixes:/api/}") String[] pathPrefixes,
+                                  @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+                                  @Value("${fanout.max-concurrency:5}") int fanOutConcurrency) {
+        int limit = Math.max(1, Math.min(maxInFlight, poolSize - fanOutConcurrency));
+        if (limit < maxInFlight) {
+            log.info("Limiting requests in flight to {}: pool size {} minus {} fan-out permits", limit, poolSize,
+                    fanOutConcurrency);
+        }
+        this.permits = new Semaphore(limit, true);
+        this.queueTimeoutMillis = queueTimeoutMillis;
+        this.pathPrefixes = pathPrefixes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.startsWith("/actuator/")) {
+            return true;
+        }
+        for (String prefix : pathPrefixes) {
+            if (path.startsWith(prefix)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(queueTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value());
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * @return Number of requests that could start right now without waiting.
+     */
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+}
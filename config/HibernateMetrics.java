@@ -0,0 +1,84 @@
+package com.example.volunteer_platform.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Publishes the Hibernate session factory statistics as meters: statements, entity loads and writes,
+ * query executions and second-level cache traffic. Counters are only collected when
+ * hibernate.generate_statistics is enabled, and are reset by DELETE /api/admin/cache-stats.
+ */
+@Component
+public class HibernateMetrics implements MeterBinder {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        counter(registry, statistics, "hibernate.statements", "kind", "prepared", Statistics::getPrepareStatementCount,
+                "JDBC statements prepared");
+        counter(registry, statistics, "hibernate.statements", "kind", "closed", Statistics::getCloseStatementCount,
+                "JDBC statements closed");
+        counter(registry, statistics, "hibernate.flushes", null, null, Statistics::getFlushCount, "Session flushes");
+        counter(registry, statistics, "hibernate.entities", "operation", "load", Statistics::getEntityLoadCount,
+                "Entities loaded from the database");
+        counter(registry, statistics, "hibernate.entities", "operation", "fetch", Statistics::getEntityFetchCount,
+                "Entities fetched lazily with a separate select");
+        counter(registry, statistics, "hibernate.entities", "operation", "insert", Statistics::getEntityInsertCount,
+                "Entities inserted");
+        counter(registry, statistics, "hibernate.entities", "operation", "update", Statistics::getEntityUpdateCount,
+                "Entities updated");
+        counter(registry, statistics, "hibernate.entities", "operation", "delete", Statistics::getEntityDeleteCount,
+                "Entities deleted");
+        counter(registry, statistics, "hibernate.collections", "operation", "load", Statistics::getCollectionLoadCount,
+                "Collections loaded");
+        counter(registry, statistics, "hibernate.collections", "operation", "fetch", Statistics::getCollectionFetchCount,
+                "Collections fetched lazily with a separate select");
+        counter(registry, statistics, "hibernate.queries", null, null, Statistics::getQueryExecutionCount,
+                "HQL and native queries executed");
+        counter(registry, statistics, "hibernate.second.level.cache", "result", "hit", Statistics::getSecondLevelCacheHitCount,
+                "Second-level cache lookups that found an entry");
+        counter(registry, statistics, "hibernate.second.level.cache", "result", "miss", Statistics::getSecondLevelCacheMissCount,
+                "Second-level cache lookups that missed");
+        counter(registry, statistics, "hibernate.second.level.cache", "result", "put", Statistics::getSecondLevelCachePutCount,
+                "Entries put into the second-level cache");
+        counter(registry, statistics, "hibernate.query.cache", "result", "hit", Statistics::getQueryCacheHitCount,
+                "Query cache lookups that found an entry");
+        counter(registry, statistics, "hibernate.query.cache", "result", "miss", Statistics::getQueryCacheMissCount,
+                "Query cache lookups that missed");
+        counter(registry, statistics, "hibernate.transactions", "result", "success", Statistics::getSuccessfulTransactionCount,
+                "Transactions committed");
+        counter(registry, statistics, "hibernate.optimistic.failures", null, null, Statistics::getOptimisticFailureCount,
+                "Stale object and optimistic lock failures");
+
+        Gauge.builder("hibernate.query.execution.max", statistics, Statistics::getQueryExecutionMaxTime)
+                .description("Slowest query execution since the statistics were last reset")
+                .baseUnit("milliseconds")
+                .register(registry);
+        Gauge.builder("hibernate.sessions.open", statistics,
+                        stats -> stats.getSessionOpenCount() - stats.getSessionCloseCount())
+                .description("Sessions currently open")
+                .register(registry);
+    }
+
+    private static void counter(MeterRegistry registry, Statistics statistics, String name, String tagKey, String tagValue,
+                                ToDoubleFunction<Statistics> count, String description) {
+        FunctionCounter.Builder<Statistics> builder = FunctionCounter.builder(name, statistics, count).description(description);
+        if (tagKey != null) {
+            builder.tag(tagKey, tagValue);
+        }
+        builder.register(registry);
+    }
+}
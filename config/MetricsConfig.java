@@ -0,0 +1,52 @@
+package com.example.volunteer_platform.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.Map;
+
+/**
+ * Metrics configuration. Request timers (http.server.requests), repository timers
+ * (spring.data.repository.invocations) and connection pool gauges (hikaricp.*) come from Spring Boot Actuator;
+ * service timers come from {@link ServiceTimingAspect} and Hibernate counters from {@link HibernateMetrics}.
+ * Everything is scraped at /actuator/prometheus.
+ */
+@Configuration
+public class MetricsConfig {
+
+    private static final String HTTP_REQUESTS = "http.server.requests";
+
+    /**
+     * Apply per-route percentiles to the request timers. Routes are matched on the URI template, e.g.
+     * {@code metrics.http.route-percentiles[/api/tasks/{taskId}]=0.5,0.95,0.99}; other routes keep the defaults
+     * from management.metrics.distribution.percentiles.
+     *
+     * @param environment Application environment.
+     * @return Meter filter.
+     */
+    @Bean
+    public MeterFilter routePercentilesMeterFilter(Environment environment) {
+        Map<String, double[]> routePercentiles = Binder.get(environment)
+                .bind("metrics.http.route-percentiles", Bindable.mapOf(String.class, double[].class))
+                .orElse(Map.of());
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (routePercentiles.isEmpty() || !HTTP_REQUESTS.equals(id.getName())) {
+                    return config;
+                }
+                double[] percentiles = routePercentiles.get(id.getTag("uri"));
+                if (percentiles == null) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder().percentiles(percentiles).build().merge(config);
+            }
+        };
+    }
+}
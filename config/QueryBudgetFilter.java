@@ -0,0 +1,52 @@
+package com.example.volunteer_platform.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Applies a statement budget to every GET request, so listings that load related rows one by one are caught.
+ * Requests over budget are logged; with query-budget.strict=true they fail instead.
+ * Statements issued on fan-out threads are not counted.
+ */
+@Component
+@ConditionalOnProperty(name = "query-budget.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryBudgetFilter.class);
+
+    @Value("${query-budget.max-statements:10}")
+    private int maxStatements;
+
+    @Value("${query-budget.strict:false}")
+    private boolean strict;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        QueryCountInspector.start(maxStatements, strict);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            int statements = QueryCountInspector.stop();
+            if (statements > maxStatements) {
+                log.warn("{} {} issued {} SQL statements, budget is {}", request.getMethod(), request.getRequestURI(),
+                        statements, maxStatements);
+            }
+        }
+    }
+}
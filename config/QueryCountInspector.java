@@ -0,0 +1,77 @@
+package com.example.volunteer_platform.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread while a budget is active.
+ * In strict mode the statement that exceeds the budget fails with QueryBudgetExceededException, which makes
+ * N+1 regressions fail tests and local runs instead of only showing up in logs.
+ */
+@Component
+public class QueryCountInspector implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private static final ThreadLocal<Budget> BUDGET = new ThreadLocal<>();
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Budget budget = BUDGET.get();
+        if (budget != null) {
+            budget.count++;
+            if (budget.strict && budget.count > budget.maxStatements) {
+                throw new QueryBudgetExceededException(budget.count, budget.maxStatements, sql);
+            }
+        }
+        return sql;
+    }
+
+    /**
+     * Start counting statements on the current thread.
+     *
+     * @param maxStatements Number of statements allowed.
+     * @param strict Whether to fail the statement that exceeds the budget.
+     */
+    public static void start(int maxStatements, boolean strict) {
+        BUDGET.set(new Budget(maxStatements, strict));
+    }
+
+    /**
+     * Stop counting statements on the current thread.
+     *
+     * @return Number of statements issued since start, or 0 if counting was not started.
+     */
+    public static int stop() {
+        Budget budget = BUDGET.get();
+        BUDGET.remove();
+        return budget == null ? 0 : budget.count;
+    }
+
+    private static final class Budget {
+        private final int maxStatements;
+        private final boolean strict;
+        private int count;
+
+        private Budget(int maxStatements, boolean strict) {
+            this.maxStatements = maxStatements;
+            this.strict = strict;
+        }
+    }
+
+    /**
+     * Thrown in strict mode when a thread issues more statements than its budget allows.
+     */
+    public static class QueryBudgetExceededException extends RuntimeException {
+        public QueryBudgetExceededException(int count, int maxStatements, String sql) {
+            super("Statement " + count + " exceeds the budget of " + maxStatements + ": " + sql);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.volunteer_platform.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which repository method the current thread is executing, so traced SQL statements can name
+ * the repository call that issued them.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "tracing.sql.enabled", havingValue = "true", matchIfMissing = true)
+public class RepositoryCallTracker {
+
+    private static final String APPLICATION_PACKAGE = "com.example.volunteer_platform.";
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    @Around("this(org.springframework.data.repository.Repository)")
+    public Object track(ProceedingJoinPoint joinPoint) throws Throwable {
+        String previous = CURRENT.get();
+        CURRENT.set(repositoryName(joinPoint.getThis()) + "." + joinPoint.getSignature().getName());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * @return Repository method running on the current thread, e.g. {@code TaskRepository.findById}, or null.
+     */
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    private String repositoryName(Object proxy) {
+        return repositoryNames.computeIfAbsent(proxy.getClass(), type -> {
+            for (Class<?> userInterface : AopProxyUtils.proxiedUserInterfaces(proxy)) {
+                if (userInterface.getName().startsWith(APPLICATION_PACKAGE)) {
+                    return userInterface.getSimpleName();
+                }
+            }
+            return type.getSimpleName();
+        });
+    }
+}
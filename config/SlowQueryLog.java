@@ -0,0 +1,177 @@
+package com.example.volunteer_platform.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.temporal.Temporal;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Logs traced SQL statements from a background thread. Statements slower than the threshold are logged
+ * as warnings and a random sample of the rest at info level. Traces are handed over through a bounded
+ * queue; when it is full they are dropped and counted, so a slow log appender never blocks a query.
+ */
+@Component
+@ConditionalOnProperty(name = "tracing.sql.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryLog implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(SlowQueryLog.class);
+
+    private final long thresholdNanos;
+    private final double sampleRate;
+    private final int maxParameterLength;
+    private final BlockingQueue<QueryTrace> queue;
+    private final AtomicLong logged = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private Thread writer;
+
+    public SlowQueryLog(@Value("${tracing.sql.slow-threshold-ms:200}") long thresholdMillis,
+                        @Value("${tracing.sql.sample-rate:0.001}") double sampleRate,
+                        @Value("${tracing.sql.max-parameter-length:64}") int maxParameterLength,
+                        @Value("${tracing.sql.queue-capacity:1000}") int queueCapacity) {
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.sampleRate = sampleRate;
+        this.maxParameterLength = maxParameterLength;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    public void start() {
+        writer = new Thread(this::drain, "slow-query-log");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        writer.interrupt();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("sql.traces", logged, AtomicLong::get).tag("result", "logged")
+                .description("Traced statements written to the log").register(registry);
+        FunctionCounter.builder("sql.traces", dropped, AtomicLong::get).tag("result", "dropped")
+                .description("Traced statements dropped because the log queue was full").register(registry);
+    }
+
+    /**
+     * Decide up front whether a statement is traced regardless of its duration.
+     *
+     * @return True for a sampled statement.
+     */
+    public boolean sample() {
+        return sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    /**
+     * @param elapsedNanos Statement duration.
+     * @return True if the statement is slow enough to be logged.
+     */
+    public boolean isSlow(long elapsedNanos) {
+        return elapsedNanos >= thresholdNanos;
+    }
+
+    /**
+     * Queue a trace for logging without blocking.
+     *
+     * @param trace Finished statement.
+     */
+    public void record(QueryTrace trace) {
+        if (!queue.offer(trace)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    private void drain() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                write(queue.take());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void write(QueryTrace trace) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(trace.elapsedNanos);
+        String caller = trace.repositoryMethod != null ? trace.repositoryMethod : "-";
+        String parameters = formatParameters(trace);
+        if (isSlow(trace.elapsedNanos)) {
+            log.warn("Slow SQL {} ms, {} rows{}, {}: {} {}", millis, trace.rows, trace.failed ? ", failed" : "", caller,
+                    trace.sql, parameters);
+        } else {
+            log.info("Sampled SQL {} ms, {} rows{}, {}: {} {}", millis, trace.rows, trace.failed ? ", failed" : "", caller,
+                    trace.sql, parameters);
+        }
+        logged.incrementAndGet();
+    }
+
+    private String formatParameters(QueryTrace trace) {
+        if (trace.parameters.length == 0) {
+            return "[]";
+        }
+        boolean sensitive = trace.sql != null && trace.sql.toLowerCase(Locale.ROOT).contains("password");
+        StringBuilder text = new StringBuilder("[");
+        for (int i = 0; i < trace.parameters.length; i++) {
+            if (i > 0) {
+                text.append(", ");
+            }
+            text.append(sensitive ? "***" : formatParameter(trace.parameters[i]));
+        }
+        return text.append(']').toString();
+    }
+
+    private String formatParameter(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (value instanceof byte[] bytes) {
+            return "<" + bytes.length + " bytes>";
+        }
+        if (!(value instanceof CharSequence || value instanceof Number || value instanceof Boolean
+                || value instanceof Temporal || value instanceof Date || value instanceof Enum<?>)) {
+            return "<" + value.getClass().getSimpleName() + ">"; // Streams, LOBs and other values that cannot be printed safely
+        }
+        String text = value.toString();
+        if (text.length() > maxParameterLength) {
+            text = text.substring(0, maxParameterLength) + "...";
+        }
+        return value instanceof CharSequence ? "'" + text + "'" : text;
+    }
+
+    /**
+     * One finished SQL statement.
+     */
+    public static final class QueryTrace {
+        private final String sql;
+        private final Object[] parameters; // Bind parameters by position, starting at index 0 for parameter 1
+        private final String repositoryMethod;
+        private final long elapsedNanos;
+        private final long rows; // Rows read or affected
+        private final boolean failed;
+
+        public QueryTrace(String sql, Object[] parameters, String repositoryMethod, long elapsedNanos, long rows, boolean failed) {
+            this.sql = sql;
+            this.parameters = parameters;
+            this.repositoryMethod = repositoryMethod;
+            this.elapsedNanos = elapsedNanos;
+            this.rows = rows;
+            this.failed = failed;
+        }
+    }
+}
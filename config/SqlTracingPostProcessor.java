@@ -0,0 +1,31 @@
+package com.example.volunteer_platform.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application's DataSource in a {@link TracingDataSource}. The pool itself stays unwrapped
+ * underneath, so connection pool metrics and health checks still see it.
+ */
+@Component
+@ConditionalOnProperty(name = "tracing.sql.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlTracingPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<SlowQueryLog> slowQueryLog;
+
+    public SqlTracingPostProcessor(ObjectProvider<SlowQueryLog> slowQueryLog) {
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof TracingDataSource)) {
+            return new TracingDataSource(dataSource, slowQueryLog.getObject());
+        }
+        return bean;
+    }
+}
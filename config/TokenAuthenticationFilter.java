@@ -0,0 +1,97 @@
+package com.example.volunteer_platform.config;
+
+import com.example.volunteer_platform.dto.UserPrincipal;
+import com.example.volunteer_platform.service.PrincipalCache;
+import com.example.volunteer_platform.service.TokenService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Authenticates requests carrying an {@code Authorization: Bearer <token>} header. The token is verified
+ * in-process and the user is looked up in PrincipalCache, so an authenticated request adds no database access
+ * unless the user was evicted or changed. The principal is exposed as the {@value #PRINCIPAL_ATTRIBUTE}
+ * request attribute. Invalid tokens are rejected with HTTP 401; requests without a token are only rejected
+ * when auth.enforce=true, except for login and registration. Operational endpoints (admin, reminder dispatch,
+ * rating summary rebuild and bulk imports) always require an organization principal, whatever auth.enforce
+ * says: HTTP 401 without a token, HTTP 403 for a volunteer.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class TokenAuthenticationFilter extends OncePerRequestFilter {
+
+    public static final String PRINCIPAL_ATTRIBUTE = "authenticatedUser";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final Set<String> PUBLIC_POSTS = Set.of("/api/auth/login", "/api/volunteers", "/api/organizations");
+    private static final Set<String> OPERATIONAL_POSTS = Set.of("/api/reminders/dispatch", "/ratings/summary/rebuild");
+    private static final String OPERATOR_USER_TYPE = "ORGANIZATION";
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Value("${auth.enforce:false}")
+    private boolean enforce;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        boolean operational = isOperational(request);
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.startsWith(BEARER_PREFIX)) {
+            if (operational || (enforce && !isPublic(request))) {
+                response.sendError(HttpStatus.UNAUTHORIZED.value());
+                return;
+            }
+            chain.doFilter(request, response);
+            return;
+        }
+
+        Long userId = tokenService.verify(header.substring(BEARER_PREFIX.length()).trim());
+        Optional<UserPrincipal> principal = userId != null ? principalCache.get(userId) : Optional.empty();
+        if (principal.isEmpty()) {
+            response.sendError(HttpStatus.UNAUTHORIZED.value());
+            return;
+        }
+        if (operational && !OPERATOR_USER_TYPE.equals(principal.get().getUserType())) {
+            response.sendError(HttpStatus.FORBIDDEN.value());
+            return;
+        }
+        request.setAttribute(PRINCIPAL_ATTRIBUTE, principal.get());
+        chain.doFilter(request, response);
+    }
+
+    private static boolean isPublic(HttpServletRequest request) {
+        String path = pathOf(request);
+        return !path.startsWith("/api/") || ("POST".equals(request.getMethod()) && PUBLIC_POSTS.contains(path));
+    }
+
+    private static boolean isOperational(HttpServletRequest request) {
+        String path = pathOf(request);
+        if (path.startsWith("/api/admin/")) {
+            return true;
+        }
+        return "POST".equals(request.getMethod())
+                && (OPERATIONAL_POSTS.contains(path) || (path.startsWith("/api/") && path.endsWith("/import")));
+    }
+
+    private static String pathOf(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+}
@@ -0,0 +1,232 @@
+package com.example.volunteer_platform.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+/**
+ * DataSource that times every JDBC statement and hands slow or sampled ones to {@link SlowQueryLog}, with
+ * their bind parameters, the repository method that issued them and the number of rows read or affected.
+ * The duration of a query includes reading its result set, so it reflects what the caller waited for.
+ * Untraced statements cost a timer read and a parameter array copy; nothing is formatted on the caller's thread.
+ * Closing it closes the wrapped pool, since it replaces the pool bean and receives its destroy callback.
+ */
+public class TracingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private static final Object[] NO_PARAMETERS = new Object[0];
+
+    private final SlowQueryLog slowQueryLog;
+
+    public TracingDataSource(DataSource target, SlowQueryLog slowQueryLog) {
+        super(target);
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable target) {
+            target.close();
+        }
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(TracingDataSource.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+        private final Connection target;
+
+        private ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = TracingDataSource.invoke(target, method, args);
+            Class<?> type = result instanceof CallableStatement ? CallableStatement.class
+                    : result instanceof PreparedStatement ? PreparedStatement.class
+                    : result instanceof Statement ? Statement.class : null;
+            if (type == null) {
+                return result;
+            }
+            String sql = type != Statement.class && args != null && args[0] instanceof String text ? text : null;
+            return Proxy.newProxyInstance(TracingDataSource.class.getClassLoader(), new Class<?>[] {type},
+                    new StatementHandler((Statement) result, (Connection) proxy, sql));
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+        private final Statement target;
+        private final Connection connection;
+        private final String sql; // Null for plain statements, which pass the SQL to execute
+        private Object[] parameters = NO_PARAMETERS;
+        private int parameterCount; // Highest bound parameter index
+        private Execution current; // Execution whose result set is still being read
+
+        private StatementHandler(Statement target, Connection connection, String sql) {
+            this.target = target;
+            this.connection = connection;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                return execute((Statement) proxy, method, args);
+            }
+            if (sql != null && name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                bind(index, name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("clearParameters")) {
+                parameters = NO_PARAMETERS;
+                parameterCount = 0;
+            } else if (name.equals("getConnection")) {
+                return connection;
+            } else if (name.equals("getResultSet")) {
+                Object resultSet = TracingDataSource.invoke(target, method, args);
+                return resultSet instanceof ResultSet rows && current != null ? wrap(rows, current, (Statement) proxy) : resultSet;
+            } else if (name.equals("close")) {
+                finishCurrent();
+            }
+            return TracingDataSource.invoke(target, method, args);
+        }
+
+        private Object execute(Statement proxy, Method method, Object[] args) throws Throwable {
+            finishCurrent();
+            String statementSql = sql != null ? sql : args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+            Execution execution = new Execution(statementSql, Arrays.copyOf(parameters, parameterCount),
+                    RepositoryCallTracker.current(), slowQueryLog.sample());
+            Object result;
+            long start = System.nanoTime();
+            try {
+                result = TracingDataSource.invoke(target, method, args);
+            } catch (Throwable e) {
+                execution.elapsedNanos += System.nanoTime() - start;
+                execution.failed = true;
+                execution.finish();
+                throw e;
+            }
+            execution.elapsedNanos += System.nanoTime() - start;
+
+            if (result instanceof ResultSet rows) {
+                current = execution;
+                return wrap(rows, execution, proxy);
+            }
+            if (result instanceof Boolean hasResultSet && hasResultSet) {
+                current = execution; // Rows are counted if the caller asks for the result set
+                return result;
+            }
+            if (result instanceof Number count) {
+                execution.rows = count.longValue();
+            } else if (result instanceof int[] counts) {
+                execution.rows = Arrays.stream(counts).filter(count -> count > 0).sum();
+            } else if (result instanceof long[] counts) {
+                execution.rows = Arrays.stream(counts).filter(count -> count > 0).sum();
+            } else if (result instanceof Boolean) {
+                execution.rows = Math.max(0, target.getUpdateCount());
+            }
+            execution.finish();
+            return result;
+        }
+
+        private void bind(int index, Object value) {
+            if (index > parameters.length) {
+                parameters = Arrays.copyOf(parameters, Math.max(index, parameters.length * 2));
+            }
+            parameters[index - 1] = value;
+            parameterCount = Math.max(parameterCount, index);
+        }
+
+        private void finishCurrent() {
+            if (current != null) {
+                current.finish();
+                current = null;
+            }
+        }
+
+        private ResultSet wrap(ResultSet resultSet, Execution execution, Statement statement) {
+            return (ResultSet) Proxy.newProxyInstance(TracingDataSource.class.getClassLoader(), new Class<?>[] {ResultSet.class},
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "next" -> {
+                                long start = System.nanoTime();
+                                Object hasRow = TracingDataSource.invoke(resultSet, method, args);
+                                execution.elapsedNanos += System.nanoTime() - start;
+                                if (Boolean.TRUE.equals(hasRow)) {
+                                    execution.rows++;
+                                }
+                                return hasRow;
+                            }
+                            case "close" -> execution.finish();
+                            case "getStatement" -> {
+                                return statement;
+                            }
+                            default -> {
+                            }
+                        }
+                        return TracingDataSource.invoke(resultSet, method, args);
+                    });
+        }
+    }
+
+    /**
+     * Timing and row count of one statement execution. Accessed only by the thread using the statement.
+     */
+    private final class Execution {
+        private final String sql;
+        private final Object[] parameters;
+        private final String repositoryMethod;
+        private final boolean sampled;
+        private long elapsedNanos;
+        private long rows;
+        private boolean failed;
+        private boolean finished;
+
+        private Execution(String sql, Object[] parameters, String repositoryMethod, boolean sampled) {
+            this.sql = sql;
+            this.parameters = parameters;
+            this.repositoryMethod = repositoryMethod;
+            this.sampled = sampled;
+        }
+
+        private void finish() {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            if (sampled || slowQueryLog.isSlow(elapsedNanos)) {
+                slowQueryLog.record(new SlowQueryLog.QueryTrace(sql, parameters, repositoryMethod, elapsedNanos, rows, failed));
+            }
+        }
+    }
+}
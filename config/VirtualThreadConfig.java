@@ -0,0 +1,89 @@
+package com.example.volunteer_platform.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread configuration for service-layer fan-out.
+ * Request handling switches to virtual threads through spring.threads.virtual.enabled, which needs Java 21.
+ * The same property selects virtual threads for fan-out; otherwise a small platform thread pool is used.
+ * The virtual thread API is looked up reflectively, so the application still builds and runs on Java 17.
+ * Password hashing is CPU-bound and always runs on its own bounded platform pool.
+ */
+@Configuration
+public class VirtualThreadConfig {
+
+    /**
+     * Executor for independent blocking calls made on behalf of one request.
+     * Concurrency against the database is limited separately by BoundedFanOut.
+     *
+     * @param virtualThreads Whether virtual threads are enabled.
+     * @param maxConcurrency Pool size when virtual threads are disabled.
+     * @return Fan-out executor.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService fanOutExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                          @Value("${fanout.max-concurrency:5}") int maxConcurrency) {
+        if (virtualThreads) {
+            return newVirtualThreadPerTaskExecutor("fan-out-");
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "fan-out-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return Executors.newFixedThreadPool(maxConcurrency, threadFactory);
+    }
+
+    /**
+     * Executor for password hashing and verification. Tasks beyond the queue capacity are rejected.
+     *
+     * @param threads Pool size; 0 uses half of the available cores.
+     * @param queueCapacity Maximum number of waiting hashes.
+     * @return Password hashing executor.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService passwordHashingExecutor(@Value("${passwords.hashing.threads:0}") int threads,
+                                                   @Value("${passwords.hashing.queue-capacity:64}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "password-hash-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Create an executor that starts a named virtual thread per task, i.e.
+     * {@code Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(prefix, 0).factory())}.
+     *
+     * @param prefix Thread name prefix.
+     * @return Virtual thread executor.
+     * @throws IllegalStateException If the running JVM has no virtual threads.
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor(String prefix) {
+        try {
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+            ThreadFactory threadFactory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, threadFactory);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("spring.threads.virtual.enabled=true needs Java 21 or later", e);
+        }
+    }
+}
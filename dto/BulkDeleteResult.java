@@ -0,0 +1,17 @@
+package com.example.volunteer_platform.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Row counts removed by a set-based cascade delete.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkDeleteResult {
+    private int usersDeleted; // Organization or volunteer rows removed
+    private int tasksDeleted; // Task rows removed
+    private int signupsDeleted; // Task signup rows removed
+}
@@ -0,0 +1,27 @@
+package com.example.volunteer_platform.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Hit and miss counters of one Hibernate second-level cache region.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheRegionStatsDto {
+    private String region;
+    private long hits;
+    private long misses;
+    private long puts;
+    private long size; // Entries currently in memory, or -1 if the provider does not report it
+
+    /**
+     * @return Fraction of lookups served from the region, or 0 if there were none.
+     */
+    public double getHitRatio() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.volunteer_platform.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Hit and miss counters of an in-process cache.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsDto {
+    private long hits;
+    private long misses;
+    private long evictions;
+    private int size; // Number of entries currently cached
+
+    /**
+     * @return Fraction of lookups served from the cache, or 0 if there were none.
+     */
+    public double getHitRatio() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.volunteer_platform.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated listing.
+ * The next cursor is the ID of the last item on the page, or null when there are no more items.
+ */
+@Data
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private List<T> items; // Items on this page, ordered by ID
+
+    private Long nextCursor; // Pass as "cursor" to fetch the next page
+
+    /**
+     * Clamp a requested page size to the supported range.
+     *
+     * @param size Requested page size.
+     * @return Page size between 1 and MAX_PAGE_SIZE.
+     */
+    public static int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * Build a page from rows fetched with one extra row, which tells whether another page exists.
+     *
+     * @param rows Rows fetched with a limit of size + 1.
+     * @param size Page size.
+     * @param idOf Function returning the keyset ID of a row.
+     * @return Page with the next cursor set if more rows exist.
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, Long> idOf) {
+        if (rows.size() > size) {
+            List<T> items = new ArrayList<>(rows.subList(0, size));
+            return new CursorPage<>(items, idOf.apply(items.get(size - 1)));
+        }
+        return new CursorPage<>(rows, null);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.volunteer_platform.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Result of a bulk import: row counts and the errors of the rejected rows.
+ */
+@Data
+@NoArgsConstructor
+public class ImportReport {
+
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    private int processed; // Data rows read, excluding blank lines and the CSV header
+    private int imported; // Rows written to the database
+    private int failed; // Rows rejected; only the first MAX_REPORTED_ERRORS are listed
+    private List<RowError> errors = new ArrayList<>();
+
+    /**
+     * Record a rejected row.
+     *
+     * @param line Line number in the uploaded file, starting at 1.
+     * @param message Reason the row was rejected.
+     */
+    public void addError(int line, String message) {
+        failed++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new RowError(line, message));
+        }
+    }
+
+    /**
+     * Error of one rejected row.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private int line;
+        private String message;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.volunteer_platform.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a login request.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoginDto {
+    @NotBlank(message = "Email is required")
+    private String email;
+
+    @NotBlank(message = "Password is required")
+    private String password;
+}
@@ -0,0 +1,20 @@
+package com.example.volunteer_platform.dto;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO returned after a successful login.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoginResponseDto {
+    private Long userId; // ID of the authenticated user
+    private String userType; // ORGANIZATION or VOLUNTEER
+    private String token; // Bearer token for the Authorization header
+    private Instant expiresAt; // When the token stops being accepted
+}
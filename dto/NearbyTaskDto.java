@@ -0,0 +1,16 @@
+package com.example.volunteer_platform.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A task found by a nearby search, with its distance from the search point.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearbyTaskDto {
+    private TaskSummaryDto task;
+    private double distanceKm; // Great-circle distance from the search point
+}
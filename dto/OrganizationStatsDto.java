@@ -0,0 +1,24 @@
+package com.example.volunteer_platform.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Dashboard statistics of an organization: totals plus per-task signup counts.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrganizationStatsDto {
+    private Long organizationId;
+    private int taskCount;
+    private int openTasks; // AVAILABLE tasks
+    private int filledTasks; // FILLED tasks
+    private long totalSignups;
+    private Double fillRate; // Signups over capacity of tasks with a capacity; null if none has one
+    private List<TaskStatsDto> upcomingTasks; // Tasks with an event date from today, soonest first
+    private List<TaskStatsDto> tasks; // All tasks, ordered by ID
+}
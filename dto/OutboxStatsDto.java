@@ -0,0 +1,24 @@
+package com.example.volunteer_platform.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Backlog and throughput counters of the outbox relay.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxStatsDto {
+    private long pending; // Events waiting to be delivered
+    private long parked; // Events given up on after outbox.max-attempts failed attempts; requeued by hand
+    private long oldestPendingAgeMillis; // Age of the oldest undelivered event, or 0 if there is none
+    private long relayed; // Events delivered since startup
+    private long failed; // Delivery attempts that failed since startup; those events are retried until parked
+    private long lastRunRelayed; // Events delivered by the last run
+    private long lastRunMaxLagMillis; // Longest time an event delivered by the last run spent in the outbox
+    private LocalDateTime lastRunAt; // When the last run finished
+}
@@ -0,0 +1,18 @@
+package com.example.volunteer_platform.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outbox payload of a submitted rating.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RatingEventPayload {
+    private int ratingId;
+    private int ratedByUserId;
+    private int ratedUserId;
+    private int ratingScore;
+}
@@ -0,0 +1,29 @@
+package com.example.volunteer_platform.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Throughput counters of the reminder dispatcher.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReminderStatsDto {
+    private long runs; // Completed dispatch runs since startup
+    private long sent; // Reminders delivered and marked as sent
+    private long failed; // Reminders the sender could not deliver; retried on the next run
+    private long lastRunSent; // Reminders sent by the last run
+    private long lastRunMillis; // Duration of the last run
+    private LocalDateTime lastRunAt; // When the last run finished
+
+    /**
+     * @return Reminders sent per second by the last run, or 0 if it sent none.
+     */
+    public double getLastRunPerSecond() {
+        return lastRunMillis == 0 ? 0 : lastRunSent * 1000.0 / lastRunMillis;
+    }
+}
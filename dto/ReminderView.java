@@ -0,0 +1,24 @@
+package com.example.volunteer_platform.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Everything needed to remind one volunteer of one upcoming task.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReminderView {
+    private Long signupId;
+    private Long taskId;
+    private String taskTitle;
+    private String taskLocation;
+    private LocalDate eventDate;
+    private Long volunteerId;
+    private String volunteerName;
+    private String volunteerEmail;
+}
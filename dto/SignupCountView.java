@@ -0,0 +1,10 @@
+package com.example.volunteer_platform.dto;
+
+/**
+ * Projection of a signup count grouped by an owner, such as a task or an organization.
+ */
+public interface SignupCountView {
+    Long getOwnerId();
+
+    Long getSignups();
+}
@@ -0,0 +1,20 @@
+package com.example.volunteer_platform.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox payload of a signup being created or cancelled.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SignupEventPayload {
+    private Long signupId;
+    private Long taskId;
+    private Long volunteerId;
+    private LocalDateTime signupDate;
+}
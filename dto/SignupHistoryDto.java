@@ -0,0 +1,27 @@
+package com.example.volunteer_platform.dto;
+
+import com.example.volunteer_platform.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * One row of a volunteer's signup history.
+ * Built directly by JPQL constructor expressions, so the constructor order matters.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SignupHistoryDto {
+    private Long signupId;
+    private LocalDateTime signupDate;
+    private boolean reminderSent;
+    private Long taskId;
+    private String taskTitle;
+    private String taskLocation;
+    private LocalDate taskEventDate;
+    private TaskStatus taskStatus;
+}
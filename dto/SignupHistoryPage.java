@@ -0,0 +1,21 @@
+package com.example.volunteer_platform.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * One page of a volunteer's signup history, newest first.
+ * The next cursor is the signup date and ID of the last item, or null when there are no more items.
+ */
+@Data
+@AllArgsConstructor
+public class SignupHistoryPage {
+    private List<SignupHistoryDto> items; // Items on this page, newest first
+
+    private LocalDateTime nextBefore; // Pass as "before" to fetch the next page
+
+    private Long nextBeforeId; // Pass as "beforeId" to fetch the next page
+}
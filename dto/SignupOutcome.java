@@ -0,0 +1,16 @@
+package com.example.volunteer_platform.dto;
+
+import com.example.volunteer_platform.enums.SignupResult;
+import com.example.volunteer_platform.model.TaskSignup;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Result of a signup attempt, with the created or existing signup when there is one.
+ */
+@Getter
+@AllArgsConstructor
+public class SignupOutcome {
+    private final SignupResult result;
+    private final TaskSignup signup; // Null when the task is full or not open
+}
@@ -0,0 +1,22 @@
+package com.example.volunteer_platform.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One row of a bulk skill assignment import. Exactly one of taskId and volunteerId must be set.
+ */
+@Data
+@NoArgsConstructor
+public class SkillAssignmentRow {
+
+    private Long taskId; // Task that requires the skills
+
+    private Long volunteerId; // Volunteer who has the skills
+
+    @NotEmpty(message = "At least one skill is required")
+    private List<String> skills; // Names of the skills to add
+}
@@ -0,0 +1,10 @@
+package com.example.volunteer_platform.dto;
+
+/**
+ * Projection of one row of a skill join table (task_skills or volunteer_skills).
+ */
+public interface SkillLinkView {
+    Long getOwnerId(); // Task or volunteer ID
+
+    Long getSkillId(); // Skill ID
+}
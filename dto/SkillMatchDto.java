@@ -0,0 +1,17 @@
+package com.example.volunteer_platform.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A task or volunteer matched by skill overlap.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SkillMatchDto {
+    private Long id; // ID of the matched task or volunteer
+    private int matchedSkills; // Number of skills shared with the query task or volunteer
+    private int totalSkills; // Number of skills of the matched task or volunteer
+}
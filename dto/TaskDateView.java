@@ -0,0 +1,12 @@
+package com.example.volunteer_platform.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Projection of the ID and event date of a task.
+ */
+public interface TaskDateView {
+    Long getId();
+
+    LocalDate getEventDate();
+}
@@ -1,8 +1,11 @@
 package com.example.volunteer_platform.dto;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
 
@@ -25,10 +28,21 @@ public class TaskDto {
     @Size(max = 100)
     private String location;
 
+    @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+    private Double latitude; // Latitude of the event location; optional
+
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    private Double longitude; // Longitude of the event location; optional
+
     @NotNull
     @Future(message = "Event date must be in the future")
     private LocalDate eventDate; // When the event will be hosted
 
+    @Positive(message = "Capacity must be positive")
+    private Integer capacity; // Maximum number of volunteers; omit for unlimited
+
     /**
      * Cancellation deadline for the task signup.
      * Must be a valid future date.
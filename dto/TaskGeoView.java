@@ -0,0 +1,16 @@
+package com.example.volunteer_platform.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Projection of the coordinates and event date of a task.
+ */
+public interface TaskGeoView {
+    Long getId();
+
+    Double getLatitude();
+
+    Double getLongitude();
+
+    LocalDate getEventDate();
+}
@@ -0,0 +1,58 @@
+package com.example.volunteer_platform.dto;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * One row of a bulk task import, with the same rules as TaskDto plus skill names.
+ */
+@Data
+@NoArgsConstructor
+public class TaskImportRow {
+
+    @NotBlank(message = "Title is required")
+    @Size(max = 100, message = "Title cannot exceed 100 characters")
+    private String title;
+
+    @NotBlank(message = "Description is required")
+    private String description;
+
+    @NotBlank(message = "Location is required")
+    @Size(max = 100, message = "Location cannot exceed 100 characters")
+    private String location;
+
+    @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+    private Double latitude; // Latitude of the event location; optional
+
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    private Double longitude; // Longitude of the event location; optional
+
+    @NotNull(message = "Event date is required")
+    @Future(message = "Event date must be in the future")
+    private LocalDate eventDate;
+
+    @NotNull(message = "Cancellation deadline cannot be null")
+    @Future(message = "Cancellation deadline must be a future date")
+    private LocalDate cancellationDeadline;
+
+    @NotNull(message = "Application deadline cannot be null")
+    @Future(message = "Application deadline must be a future date")
+    private LocalDate applicationDeadline;
+
+    @Positive(message = "Capacity must be positive")
+    private Integer capacity; // Maximum number of volunteers; omit for unlimited
+
+    private List<String> skills; // Names of the required skills
+}
@@ -1,5 +1,7 @@
 package com.example.volunteer_platform.dto;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
@@ -19,6 +21,14 @@ public class TaskPartialDto {
     @Size(max = 100)
     private String location;
 
+    @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+    private Double latitude; // Latitude of the event location; optional
+
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    private Double longitude; // Longitude of the event location; optional
+
     @Future(message = "Event date must be in the future")
     private LocalDate eventDate; // When the event will be hosted
 }
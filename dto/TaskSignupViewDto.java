@@ -0,0 +1,39 @@
+package com.example.volunteer_platform.dto;
+
+import com.example.volunteer_platform.model.TaskSignup;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Slim read DTO for a task signup, carrying only the task and volunteer fields a listing needs.
+ * Built directly by JPQL constructor expressions, so the constructor order matters.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSignupViewDto {
+    private Long signupId;
+    private LocalDateTime signupDate;
+    private boolean reminderSent;
+    private Long taskId;
+    private String taskTitle;
+    private LocalDate taskEventDate;
+    private Long volunteerId;
+    private String volunteerName;
+
+    /**
+     * Build a view from a loaded signup.
+     *
+     * @param signup Task signup entity.
+     * @return View of the signup.
+     */
+    public static TaskSignupViewDto from(TaskSignup signup) {
+        return new TaskSignupViewDto(signup.getSignupId(), signup.getSignupDate(), signup.isReminderSent(),
+                signup.getTask().getId(), signup.getTask().getTitle(), signup.getTask().getEventDate(),
+                signup.getVolunteer().getId(), signup.getVolunteer().getName());
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.volunteer_platform.dto;
+
+import com.example.volunteer_platform.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Signup statistics of one task on an organization's dashboard.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatsDto {
+    private Long taskId;
+    private String title;
+    private LocalDate eventDate;
+    private TaskStatus status;
+    private Integer capacity; // Null means unlimited
+    private long signups;
+    private Double fillRate; // signups / capacity; null for unlimited tasks
+}
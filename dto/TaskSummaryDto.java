@@ -0,0 +1,38 @@
+package com.example.volunteer_platform.dto;
+
+import com.example.volunteer_platform.enums.TaskStatus;
+import com.example.volunteer_platform.model.Task;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Slim read DTO for a task, without its skills or owning organization.
+ * Built directly by JPQL constructor expressions, so the constructor order matters.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSummaryDto {
+    private Long id;
+    private String title;
+    private String location;
+    private LocalDate eventDate;
+    private LocalDate applicationDeadline;
+    private LocalDate cancellationDeadline;
+    private TaskStatus status;
+    private Integer capacity; // Null means unlimited
+
+    /**
+     * Build a summary from a loaded task.
+     *
+     * @param task Task entity.
+     * @return Summary of the task.
+     */
+    public static TaskSummaryDto from(Task task) {
+        return new TaskSummaryDto(task.getId(), task.getTitle(), task.getLocation(), task.getEventDate(),
+                task.getApplicationDeadline(), task.getCancellationDeadline(), task.getStatus(), task.getCapacity());
+    }
+}
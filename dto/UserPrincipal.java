@@ -0,0 +1,25 @@
+package com.example.volunteer_platform.dto;
+
+import com.example.volunteer_platform.model.Organization;
+import com.example.volunteer_platform.model.User;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The authenticated user of a request, as cached by PrincipalCache. Holds no credentials.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserPrincipal {
+    private Long userId; // ID of the user
+    private String userType; // ORGANIZATION or VOLUNTEER
+    private String name; // Display name
+    private String email; // Login email
+
+    public static UserPrincipal from(User user) {
+        String userType = user instanceof Organization ? "ORGANIZATION" : "VOLUNTEER";
+        return new UserPrincipal(user.getId(), userType, user.getName(), user.getEmail());
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.volunteer_platform.dto;
+
+import jakarta.validation.constraints.NotNull;
+import com.example.volunteer_platform.enums.Gender;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One row of a bulk volunteer import, with the same rules as VolunteerDto plus skill names.
+ */
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class VolunteerImportRow extends UserDto {
+
+    @NotNull(message = "Gender is required")
+    private Gender gender; // Gender of the volunteer
+
+    private List<String> skills; // Names of the volunteer's skills
+}
@@ -0,0 +1,21 @@
+package com.example.volunteer_platform.dto;
+
+import com.example.volunteer_platform.model.RatingSummary;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Everything the volunteer dashboard shows, loaded in one request.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VolunteerOverviewDto {
+    private Long volunteerId;
+    private List<TaskSignupViewDto> signups; // The volunteer's signups
+    private List<TaskSummaryDto> recommendedTasks; // Open tasks that best match the volunteer's skills
+    private RatingSummary rating; // Ratings received by the volunteer
+}
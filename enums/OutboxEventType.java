@@ -0,0 +1,10 @@
+package com.example.volunteer_platform.enums;
+
+/**
+ * OutboxEventType enum represents the kinds of domain events recorded in the outbox.
+ */
+public enum OutboxEventType {
+    SIGNUP_CREATED,   // A volunteer signed up for a task
+    SIGNUP_CANCELLED, // A signup was cancelled or deleted
+    RATING_SUBMITTED  // A user rated another user
+}
@@ -0,0 +1,11 @@
+package com.example.volunteer_platform.enums;
+
+/**
+ * SignupResult enum represents the outcome of a volunteer's attempt to sign up for a task.
+ */
+public enum SignupResult {
+    CREATED,           // A new signup was created
+    ALREADY_SIGNED_UP, // The volunteer already has a signup for the task
+    TASK_FULL,         // The task has reached its capacity
+    NOT_OPEN           // The task is ended or cancelled and no longer accepts signups
+}
@@ -5,7 +5,7 @@ package com.example.volunteer_platform.enums;
  */
 public enum TaskStatus {
     AVAILABLE, // Task is available for application
-    FILLED,    // No more volunteers needed for the task. [Will be implemented in future]
+    FILLED,    // No more volunteers needed for the task; capacity has been reached
     ENDED,     // Task is no longer available for application; application date is over
     CANCELLED  // Task has been cancelled by the organization; cannot be applied for any longer
 }
@@ -0,0 +1,51 @@
+package com.example.volunteer_platform.model;
+
+import com.example.volunteer_platform.enums.OutboxEventType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * OutboxEvent class represents a domain event waiting to be relayed to the configured sink.
+ * Rows are written in the same transaction as the change they describe and deleted once delivered,
+ * so the table only holds the backlog and the parked events.
+ */
+@Entity
+@Table(name = "outbox_event")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id; // Also the delivery order and the key consumers deduplicate on
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private OutboxEventType eventType; // Kind of event
+
+    @Column(nullable = false)
+    private Long aggregateId; // ID of the signup or rating the event is about
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload; // Event body as JSON
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt; // When the change was made
+
+    @Column(nullable = false)
+    private int attempts; // Failed delivery attempts so far
+
+    private LocalDateTime parkedAt; // When the relay gave up on the event after too many attempts; null while pending
+
+    @PrePersist
+    public void prePersist() {
+        this.createdAt = LocalDateTime.now(); // Set creation date to now
+    }
+}
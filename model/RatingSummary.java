@@ -0,0 +1,66 @@
+package com.example.volunteer_platform.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * RatingSummary holds the running rating aggregates of one rated user, so averages and
+ * score histograms don't require loading every Ratings row.
+ */
+@Entity
+@Table(name = "rating_summary")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RatingSummary {
+
+    @Id
+    private int ratedUserId;
+
+    @Column(nullable = false)
+    private long ratingCount;
+
+    @Column(nullable = false)
+    private long ratingSum;
+
+    @Column(nullable = false)
+    private long oneStarCount;
+
+    @Column(nullable = false)
+    private long twoStarCount;
+
+    @Column(nullable = false)
+    private long threeStarCount;
+
+    @Column(nullable = false)
+    private long fourStarCount;
+
+    @Column(nullable = false)
+    private long fiveStarCount;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedDate;
+
+    /**
+     * Create an empty summary for a user without ratings.
+     *
+     * @param ratedUserId ID of the rated user.
+     */
+    public RatingSummary(int ratedUserId) {
+        this.ratedUserId = ratedUserId;
+        this.updatedDate = LocalDateTime.now();
+    }
+
+    /**
+     * @return Average rating score, or 0 if the user has no ratings.
+     */
+    public double getAverageScore() {
+        return ratingCount == 0 ? 0 : (double) ratingSum / ratingCount;
+    }
+}
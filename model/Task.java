@@ -6,19 +6,32 @@ import java.util.Set;
 
 import com.example.volunteer_platform.enums.TaskStatus;
 import jakarta.persistence.*;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Task class represents a task that volunteers can sign up for.
  */
 @Entity
-@Table(name = "tasks")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "task")
+@Table(name = "tasks", indexes = {
+		@Index(name = "idx_tasks_event_date", columnList = "event_date"), // Reminder scans look up tasks by event date
+		@Index(name = "idx_tasks_status", columnList = "status"), // Listings filter by status, ordered by ID
+		@Index(name = "idx_tasks_status_event_date", columnList = "status, event_date"), // Date-range listings and calendar loads
+		@Index(name = "idx_tasks_status_application_deadline", columnList = "status, application_deadline") // Lifecycle sweep
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -41,6 +54,14 @@ public class Task {
 	@Size(max = 100)
 	private String location;
 
+	@DecimalMin("-90.0")
+	@DecimalMax("90.0")
+	private Double latitude; // Latitude of the event location in degrees; null if unknown
+
+	@DecimalMin("-180.0")
+	@DecimalMax("180.0")
+	private Double longitude; // Longitude of the event location in degrees; null if unknown
+
 	@NotNull @Future
 	private LocalDate eventDate; // When the event will be hosted. Format is "yyyy-MM-dd"
 
@@ -56,11 +77,16 @@ public class Task {
 	@Column(nullable = false)
 	private LocalDateTime updatedAt;
 
+	@Positive
+	private Integer capacity; // Maximum number of volunteers; null means unlimited
+
 	@Enumerated(EnumType.STRING) // Store the enum as a string in the database
 	@Column(nullable = false)
 	private TaskStatus status; // Use the TaskStatus enum
 
 	@ManyToMany
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "task.skills")
+	@BatchSize(size = 100) // Load the skills of up to 100 tasks per query when a listing touches them
 	@JoinTable(
 			name = "task_skills", // Join table name
 			joinColumns = @JoinColumn(name = "task_id"), // Foreign key for Task
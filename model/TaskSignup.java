@@ -12,7 +12,12 @@ import java.time.LocalDateTime;
  * TaskSignup class represents the signup of a volunteer for a specific task.
  */
 @Entity
-@Table(name = "task_signup")
+@Table(name = "task_signup", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_task_signup_task_user", columnNames = {"task_id", "user_id"}) // One signup per volunteer per task
+}, indexes = {
+        @Index(name = "idx_task_signup_task_reminder", columnList = "task_id, reminder_sent"), // Unsent reminders per task
+        @Index(name = "idx_task_signup_user_date", columnList = "user_id, signup_date, task_id") // Covers signup history, newest first
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -2,7 +2,10 @@ package com.example.volunteer_platform.model;
 
 import java.time.LocalDateTime;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -15,6 +18,8 @@ import lombok.NoArgsConstructor;
  * User class represents a user in the system, which can be a volunteer or an organization.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user") // Shared by organizations and volunteers
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 @DiscriminatorColumn(name = "user_type", discriminatorType = DiscriminatorType.STRING)
 @Data
@@ -40,6 +45,7 @@ public class User {
 	@NotBlank
 	@Size(min = 8) // Assuming a minimum password length
 	@Column(nullable = false)
+	@JsonProperty(access = JsonProperty.Access.WRITE_ONLY) // PBKDF2 hash, see PasswordHasher; never serialized
 	private String password;
 
 	@NotBlank
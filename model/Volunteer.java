@@ -5,6 +5,9 @@ import java.util.Set;
 import com.example.volunteer_platform.enums.Gender;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
@@ -25,6 +28,8 @@ public class Volunteer extends User {
     private Gender gender; // Gender of the volunteer
 
     @ManyToMany(fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "volunteer.skills")
+    @BatchSize(size = 100) // Load the skills of up to 100 volunteers per query when a listing touches them
     @JoinTable(
             name = "volunteer_skills", // Join table name
             joinColumns = @JoinColumn(name = "volunteer_id"), // Column in the join table referencing Volunteer